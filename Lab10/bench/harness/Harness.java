@@ -0,0 +1,136 @@
+package harness;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+/**
+ * Timing and allocation helpers shared by the benchmarks under
+ * {@code bench/}.
+ *
+ * <p>This tree has no build file and JMH is not available, so each
+ * benchmark is a plain {@code main()}: {@link #run} warms a {@link Case} up,
+ * then times it over a fixed number of iterations and reads the calling
+ * thread's allocation counter around each one. Work done on pool threads is
+ * not counted, so benchmarks mark such cases in their report.</p>
+ *
+ * @author Ying Lu
+ */
+public class Harness {
+
+    /** Untimed iterations run before measuring each case. */
+    public static final int WARMUP_ITERATIONS = 5;
+
+    /** Receives every result so the JIT cannot discard the work. */
+    private static volatile Object sink;
+
+    private Harness() { }
+
+    /** A named piece of work to time. */
+    public static class Case {
+        public final String           name;
+        public final Callable<Object> body;
+
+        /**
+         * @param name the label printed in the report
+         * @param body the work; its result is kept reachable so it is not optimized away
+         */
+        public Case(String name, Callable<Object> body) {
+            this.name = name;
+            this.body = body;
+        }
+    }
+
+    /** The timings and allocations of every measured iteration, each sorted ascending. */
+    public static class Result {
+        public final long[] nanos;
+        public final long[] bytes;
+
+        /** The value the last iteration returned. */
+        public final Object last;
+
+        private Result(long[] nanos, long[] bytes, Object last) {
+            this.nanos = nanos;
+            this.bytes = bytes;
+            this.last  = last;
+        }
+
+        /** @return the median iteration time in nanoseconds */
+        public long p50() { return nanos[nanos.length / 2]; }
+
+        /** @return the 99th-percentile iteration time in nanoseconds */
+        public long p99() { return nanos[Math.min(nanos.length - 1, (int) Math.ceil(nanos.length * 0.99) - 1)]; }
+
+        /** @return the time of all iterations together in nanoseconds */
+        public long totalNanos() { return Arrays.stream(nanos).sum(); }
+
+        /** @return the bytes allocated by the median iteration */
+        public long medianBytes() { return bytes[bytes.length / 2]; }
+
+        /** @return the bytes allocated by all iterations together */
+        public long totalBytes() { return Arrays.stream(bytes).sum(); }
+    }
+
+    /**
+     * Warms {@code c} up, then times it over {@code iterations} iterations.
+     *
+     * @param c          the case to run
+     * @param iterations the number of measured iterations; must be positive
+     * @return the measurements
+     * @throws Exception if the case fails
+     */
+    public static Result run(Case c, int iterations) throws Exception {
+        if (iterations <= 0) throw new IllegalArgumentException("Iterations must be positive.");
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) sink = c.body.call();
+
+        long[] nanos = new long[iterations];
+        long[] bytes = new long[iterations];
+        Object last = null;
+        for (int i = 0; i < iterations; i++) {
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+            last = c.body.call();
+            nanos[i] = System.nanoTime() - start;
+            bytes[i] = allocatedBytes() - bytesBefore;
+            sink = last;
+        }
+        Arrays.sort(nanos);
+        Arrays.sort(bytes);
+        return new Result(nanos, bytes, last);
+    }
+
+    /**
+     * Keeps {@code value} reachable until the next call, for measurements
+     * outside {@link #run}.
+     *
+     * @param value the object to hold; {@code null} releases the previous one
+     */
+    public static void hold(Object value) {
+        sink = value;
+    }
+
+    /** @return the bytes allocated so far by the current thread, or 0 if unsupported */
+    public static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    /**
+     * @param csv comma-separated integers, e.g. {@code 1000,100000}
+     * @return the parsed values
+     */
+    public static int[] parseInts(String csv) {
+        return Arrays.stream(csv.split(",")).mapToInt(Integer::parseInt).toArray();
+    }
+
+    /**
+     * @param csv comma-separated numbers, e.g. {@code 0,1.1}
+     * @return the parsed values
+     */
+    public static double[] parseDoubles(String csv) {
+        return Arrays.stream(csv.split(",")).mapToDouble(Double::parseDouble).toArray();
+    }
+}
@@ -0,0 +1,74 @@
+package problem1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic topic streams for benchmarking.
+ *
+ * <p>Topics are drawn from a fixed vocabulary of {@code cardinality}
+ * distinct strings. With {@code skew = 0} every topic is equally likely;
+ * with {@code skew > 0} the topic of rank {@code r} has probability
+ * proportional to {@code 1 / r^skew} (a Zipf distribution), which matches
+ * the long-tailed shape of real hashtag traffic.</p>
+ *
+ * @author Ying Lu
+ */
+public class TopicGenerator {
+
+    /** The vocabulary, most likely first. */
+    private final String[] vocabulary;
+
+    /** Cumulative probability of each rank; {@code null} for uniform. */
+    private final double[] cdf;
+
+    private final Random random;
+
+    /**
+     * Constructs a generator.
+     *
+     * @param cardinality the number of distinct topics; must be positive
+     * @param skew        the Zipf exponent; {@code 0} for a uniform distribution
+     * @param seed        the random seed, so runs are repeatable
+     */
+    public TopicGenerator(int cardinality, double skew, long seed) {
+        if (cardinality <= 0) throw new IllegalArgumentException("Cardinality must be positive.");
+        this.random     = new Random(seed);
+        this.vocabulary = new String[cardinality];
+        for (int i = 0; i < cardinality; i++) vocabulary[i] = "#topic" + Integer.toString(i, 36);
+
+        if (skew == 0) {
+            this.cdf = null;
+        } else {
+            this.cdf = new double[cardinality];
+            double sum = 0;
+            for (int r = 0; r < cardinality; r++) {
+                sum += 1 / Math.pow(r + 1, skew);
+                cdf[r] = sum;
+            }
+            for (int r = 0; r < cardinality; r++) cdf[r] /= sum;
+        }
+    }
+
+    /** @return the next topic */
+    public String next() {
+        if (cdf == null) return vocabulary[random.nextInt(vocabulary.length)];
+        int rank = Arrays.binarySearch(cdf, random.nextDouble());
+        return vocabulary[Math.min(rank < 0 ? -rank - 1 : rank, vocabulary.length - 1)];
+    }
+
+    /**
+     * Generates a list of topics. Each element is a fresh {@code String}
+     * instance, as it would be after parsing real input.
+     *
+     * @param size the number of topics
+     * @return the generated topics
+     */
+    public List<String> list(int size) {
+        List<String> topics = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) topics.add(new String(next()));
+        return topics;
+    }
+}
@@ -0,0 +1,127 @@
+package problem1;
+
+import harness.Harness;
+import harness.Harness.Case;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks every counting strategy of {@link TrendingTopics} against the
+ * original {@code groupingBy} pipeline across input size, key cardinality
+ * and skew.
+ *
+ * <p>For every combination of parameters each strategy is warmed up, then
+ * timed over a fixed number of iterations on the same input by
+ * {@link Harness}. The report
+ * shows throughput (topics per second at the median iteration), bytes
+ * allocated per topic and per second, and p50/p99 iteration latency.
+ * Allocation is read from the calling thread's allocation counter; for
+ * strategies marked {@code *} the work runs on pool threads, so their
+ * figure covers only the calling thread's share.</p>
+ *
+ * <p>Run from the {@code Lab10} directory:</p>
+ * <pre>
+ *   javac -d out src/problem1/*.java bench/harness/*.java bench/problem1/*.java &amp;&amp; java -cp out problem1.TrendingTopicsBenchmark
+ * </pre>
+ * <p>Optional arguments override the parameter grid, e.g.
+ * {@code --sizes 1000000 --cardinalities 1000,1000000 --skews 0,1.1 --iterations 20}.</p>
+ *
+ * @author Ying Lu
+ */
+public class TrendingTopicsBenchmark {
+
+    /**
+     * Runs the benchmark grid and prints one row per strategy and parameter set.
+     *
+     * @param args optional {@code --sizes}, {@code --cardinalities},
+     *             {@code --skews} and {@code --iterations} overrides
+     * @throws Exception if a strategy fails
+     */
+    public static void main(String[] args) throws Exception {
+        int[]    sizes         = {100_000, 1_000_000};
+        int[]    cardinalities = {1_000, 100_000};
+        double[] skews         = {0, 1.1};
+        int      iterations    = 30;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--sizes":         sizes         = Harness.parseInts(args[i + 1]);   break;
+                case "--cardinalities": cardinalities = Harness.parseInts(args[i + 1]);   break;
+                case "--skews":         skews         = Harness.parseDoubles(args[i + 1]); break;
+                case "--iterations":    iterations    = Integer.parseInt(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        System.out.printf("%-22s %10s %8s %5s %12s %10s %10s %9s %9s%n",
+                "strategy", "size", "keys", "skew", "topics/s", "B/topic", "MB/s", "p50 ms", "p99 ms");
+        for (int size : sizes) {
+            for (int cardinality : cardinalities) {
+                for (double skew : skews) {
+                    runGrid(size, cardinality, skew, iterations);
+                }
+            }
+        }
+    }
+
+    private static void runGrid(int size, int cardinality, double skew, int iterations) throws Exception {
+        List<String> topics = new TopicGenerator(cardinality, skew, 42).list(size);
+        Path file = Files.createTempFile("topics", ".txt");
+        Files.write(file, topics);
+        try {
+            for (Case s : strategies(topics, file)) {
+                measure(s, size, cardinality, skew, iterations);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<Case> strategies(List<String> topics, Path file) {
+        TrendingTopics tt = new TrendingTopics();
+        int threads = Runtime.getRuntime().availableProcessors();
+        TopicNormalizer normalizer = new TopicNormalizer.Builder()
+                .setCaseFolding(true).setStripHashtags(true).build();
+
+        List<Case> list = new ArrayList<>();
+        list.add(new Case("groupingBy (original)", () -> groupingBy(topics)));
+        list.add(new Case("countTopics", () -> tt.countTopics(topics)));
+        list.add(new Case("countTopicsParallel *", () -> tt.countTopicsParallel(topics)));
+        list.add(new Case("normalized", () -> tt.countTopics(topics, normalizer)));
+        list.add(new Case("topK(10)", () -> tt.topK(topics, 10)));
+        list.add(new Case("approximate top 10", () -> tt.countTopicsApproximate(topics, 10)));
+        list.add(new Case("window (count)", () -> {
+            TopicWindowCounter w = TopicWindowCounter.ofCount(Math.max(topics.size() / 4, 16), 16);
+            w.addAll(topics);
+            return w.total();
+        }));
+        list.add(new Case("file, mapped", () -> tt.countTopics(file)));
+        list.add(new Case("file, mapped *", () -> tt.countTopics(file, threads)));
+        return list;
+    }
+
+    /** The counting pipeline {@link TrendingTopics#countTopics(List)} originally used. */
+    private static Map<String, Integer> groupingBy(List<String> topics) {
+        return topics.stream()
+                .collect(Collectors.groupingBy(
+                        Function.identity(),
+                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)));
+    }
+
+    private static void measure(Case s, int size, int cardinality, double skew, int iterations)
+            throws Exception {
+        Harness.Result r = Harness.run(s, iterations);
+        long   p50     = r.p50();
+        double perSec  = size / (p50 / 1e9);
+        double perItem = (double) r.totalBytes() / ((long) size * iterations);
+        double mbPerS  = r.totalBytes() / (r.totalNanos() / 1e9) / (1 << 20);
+
+        System.out.printf("%-22s %10d %8d %5.1f %12.0f %10.1f %10.1f %9.2f %9.2f%n",
+                s.name, size, cardinality, skew, perSec, perItem, mbPerS,
+                p50 / 1e6, r.p99() / 1e6);
+    }
+}
@@ -0,0 +1,170 @@
+package problem2;
+
+import harness.Harness;
+import harness.Harness.Case;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks every filtering mode of {@link OlderVehiclesFilter} across
+ * fleet size and selectivity, and measures how much memory each fleet
+ * representation retains.
+ *
+ * <p>Model years are drawn uniformly from the 100 years 1921–2020, so a
+ * cutoff of {@code 1921 + p} matches about {@code p}% of the fleet. For
+ * every size and selectivity each mode is warmed up, then timed over a
+ * fixed number of iterations by {@link Harness}. The report shows nanoseconds per vehicle in
+ * the fleet and bytes allocated per match at the median iteration, plus
+ * p50/p99 latency. Allocation is read from the calling thread's allocation
+ * counter; for modes marked {@code *} the work runs on pool threads, so
+ * their figure covers only the calling thread's share.</p>
+ *
+ * <p>Before the timings, one footprint line per size reports the bytes per
+ * vehicle retained by the plain list, the columnar store, the year index
+ * and the bitmap query engine, measured as the change in used heap after
+ * a full collection. These figures are approximate, and structures of a
+ * few kilobytes can read as 0.</p>
+ *
+ * <p>Run from the {@code Lab10} directory:</p>
+ * <pre>
+ *   javac -d out src/problem2/*.java bench/harness/*.java bench/problem2/*.java &amp;&amp; java -Xmx8g -cp out problem2.OlderVehiclesBenchmark
+ * </pre>
+ * <p>Optional arguments override the parameter grid, e.g.
+ * {@code --sizes 1000,10000000 --selectivities 1,90 --iterations 10}.
+ * A 10M-vehicle fleet needs a heap of several gigabytes.</p>
+ *
+ * @author Ying Lu
+ */
+public class OlderVehiclesBenchmark {
+
+    /** Earliest generated model year; years span {@code FIRST_YEAR} to {@code FIRST_YEAR + 99}. */
+    private static final int FIRST_YEAR = 1921;
+
+    /** Results of a page-sized read. */
+    private static final int PAGE_SIZE = 100;
+
+    private static final String[] MAKES  = {"Toyota", "Honda", "Ford", "BMW", "Nissan", "Mazda", "Kia", "Audi"};
+    private static final String[] MODELS = {"Camry", "Civic", "Mustang", "3 Series", "Sentra", "Miata", "Rio", "A4"};
+    private static final Color[]  COLORS = {Color.RED, Color.BLUE, Color.BLACK, Color.WHITE, Color.GRAY, null};
+
+    /**
+     * Runs the benchmark grid and prints one row per mode and parameter set.
+     *
+     * @param args optional {@code --sizes}, {@code --selectivities} (percent)
+     *             and {@code --iterations} overrides
+     * @throws Exception if a mode fails
+     */
+    public static void main(String[] args) throws Exception {
+        int[] sizes         = {1_000, 100_000, 1_000_000};
+        int[] selectivities = {1, 10, 50, 90};
+        int   iterations    = 20;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--sizes":         sizes         = Harness.parseInts(args[i + 1]); break;
+                case "--selectivities": selectivities = Harness.parseInts(args[i + 1]); break;
+                case "--iterations":    iterations    = Integer.parseInt(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        for (int size : sizes) {
+            List<Vehicle> fleet = generate(size, 42);
+            printFootprint(fleet);
+            System.out.printf("%-24s %10s %5s %10s %10s %10s %9s %9s%n",
+                    "mode", "size", "sel%", "matches", "ns/veh", "B/match", "p50 ms", "p99 ms");
+            for (int selectivity : selectivities) {
+                int cutoff = FIRST_YEAR + selectivity;
+                for (Case m : modes(fleet, cutoff)) measure(m, size, selectivity, iterations);
+            }
+            System.out.println();
+        }
+    }
+
+    private static List<Case> modes(List<Vehicle> fleet, int cutoff) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        VehicleColumns columns = VehicleColumns.of(fleet);
+        OlderVehiclesFilter byList    = new OlderVehiclesFilter(fleet);
+        OlderVehiclesFilter byColumns = new OlderVehiclesFilter(columns);
+        OlderVehiclesFilter byIndex   = new OlderVehiclesFilter(new YearIndex(fleet));
+        VehicleQueryEngine  engine    = new VehicleQueryEngine(columns);
+        VehicleFleet        live      = new VehicleFleet(fleet);
+        OlderVehiclesView   view      = new OlderVehiclesView(live, cutoff);
+        Vehicle[]           swap      = {fleet.get(0), new Vehicle(MAKES[0], MODELS[0], FIRST_YEAR, Color.RED)};
+
+        List<Case> list = new ArrayList<>();
+        list.add(new Case("stream (original)", () -> byList.filterOlderVehicles(cutoff)));
+        list.add(new Case("year index", () -> byIndex.filterOlderVehicles(cutoff)));
+        list.add(new Case("columnar", () -> byColumns.filterOlderVehicles(cutoff)));
+        list.add(new Case("bitmap engine", () -> engine.describe(VehiclePredicate.yearBefore(cutoff))));
+        list.add(new Case("parallel list *", () -> byList.filterOlderVehiclesParallel(cutoff, threads, 1)));
+        list.add(new Case("parallel columnar *", () -> byColumns.filterOlderVehiclesParallel(cutoff, threads, 1)));
+        list.add(new Case("first page, list", () -> byList.filterOlderVehicles(cutoff, 0, PAGE_SIZE)));
+        list.add(new Case("first page, columnar", () -> byColumns.filterOlderVehicles(cutoff, 0, PAGE_SIZE)));
+        list.add(new Case("live view, 1 change", () -> {
+            // one replacement per read, so the view both applies a change and rebuilds its snapshot
+            live.replace(swap[0], swap[1]);
+            Vehicle previous = swap[0];
+            swap[0] = swap[1];
+            swap[1] = previous;
+            return view.descriptions();
+        }));
+        return list;
+    }
+
+    private static void measure(Case m, int size, int selectivity, int iterations) throws Exception {
+        Harness.Result r = Harness.run(m, iterations);
+        int matches = ((List<?>) r.last).size();
+
+        System.out.printf("%-24s %10d %5d %10d %10.2f %10.1f %9.3f %9.3f%n",
+                m.name, size, selectivity, matches,
+                (double) r.p50() / size, (double) r.medianBytes() / Math.max(1, matches),
+                r.p50() / 1e6, r.p99() / 1e6);
+    }
+
+    // ── Footprint ────────────────────────────────────────────────────────────
+
+    private static void printFootprint(List<Vehicle> fleet) {
+        int size = fleet.size();
+        VehicleColumns columns = VehicleColumns.of(fleet);
+        System.out.printf("footprint, %d vehicles (B/vehicle): list %.1f, columnar %.1f, "
+                        + "year index %.1f, bitmap engine %.1f%n",
+                size,
+                retained(() -> generate(size, 42)) / size,
+                retained(() -> VehicleColumns.of(fleet)) / size,
+                retained(() -> new YearIndex(fleet)) / size,
+                retained(() -> new VehicleQueryEngine(columns)) / size);
+    }
+
+    /** Approximate bytes retained by the object {@code build} returns. */
+    private static double retained(Supplier<Object> build) {
+        Harness.hold(null);
+        long before = usedHeap();
+        Harness.hold(build.get());   // keep it reachable through the measurement
+        long after = usedHeap();
+        Harness.hold(null);
+        return Math.max(0, after - before);
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────────────
+
+    private static List<Vehicle> generate(int size, long seed) {
+        Random random = new Random(seed);
+        List<Vehicle> fleet = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int kind = random.nextInt(MAKES.length);
+            fleet.add(new Vehicle(MAKES[kind], MODELS[kind],
+                    FIRST_YEAR + random.nextInt(100),
+                    COLORS[random.nextInt(COLORS.length)]));
+        }
+        return fleet;
+    }
+}
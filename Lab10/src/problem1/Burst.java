@@ -0,0 +1,64 @@
+package problem1;
+
+/**
+ * One topic flagged by {@link BurstDetector}: its count in the window that
+ * triggered the alert, the baseline it was compared against, and how far
+ * above that baseline it was.
+ *
+ * @author Ying Lu
+ */
+public class Burst {
+
+    /** The topic. */
+    private final String topic;
+
+    /** The topic's count in the triggering window. */
+    private final int count;
+
+    /** Exponentially decayed mean count per window before this one. */
+    private final double baseline;
+
+    /** Standard deviations above the baseline. */
+    private final double zScore;
+
+    /** Change in count since the previous window. */
+    private final int velocity;
+
+    /**
+     * Constructs a burst result.
+     *
+     * @param topic    the topic
+     * @param count    the topic's count in the triggering window
+     * @param baseline the decayed mean count per window before this one
+     * @param zScore   standard deviations above the baseline
+     * @param velocity change in count since the previous window
+     */
+    public Burst(String topic, int count, double baseline, double zScore, int velocity) {
+        this.topic    = topic;
+        this.count    = count;
+        this.baseline = baseline;
+        this.zScore   = zScore;
+        this.velocity = velocity;
+    }
+
+    /** @return the topic */
+    public String getTopic()    { return topic; }
+
+    /** @return the topic's count in the triggering window */
+    public int    getCount()    { return count; }
+
+    /** @return the decayed mean count per window before this one */
+    public double getBaseline() { return baseline; }
+
+    /** @return standard deviations above the baseline */
+    public double getZScore()   { return zScore; }
+
+    /** @return change in count since the previous window */
+    public int    getVelocity() { return velocity; }
+
+    @Override
+    public String toString() {
+        return String.format("%s=%d (baseline %.1f, z %.1f, velocity %+d)",
+                topic, count, baseline, zScore, velocity);
+    }
+}
@@ -0,0 +1,202 @@
+package problem1;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Separates topics that are suddenly exploding from topics that are simply
+ * always popular, by comparing each window's count against the topic's own
+ * history.
+ *
+ * <p>Call {@link #observe(Map)} once per window with that window's counts —
+ * for example {@link TrendingTopics#countTopics(List)} over the latest batch,
+ * or a tumbling {@link TopicWindowCounter}. For each topic the detector keeps
+ * an exponentially weighted mean and variance of its per-window count. A
+ * topic is reported when its new count is more than {@code zThreshold}
+ * standard deviations above that mean, and only once that mean rests on at
+ * least {@code warmUpWindows} windows of history: a topic seen for the
+ * first time, or again after its history was forgotten, has no baseline
+ * yet and would otherwise be flagged for any count.</p>
+ *
+ * <p>Per-topic state is a fixed handful of numbers. Topics absent from a
+ * window are caught up lazily, as if they had counted zero, the next time
+ * they appear, in one closed-form step however many windows they missed;
+ * topics whose baseline has decayed to nothing are dropped, so memory
+ * follows the set of recently active topics. Instances are not
+ * thread-safe.</p>
+ *
+ * @author Ying Lu
+ */
+public class BurstDetector {
+
+    /** Baseline weight below which a topic's history is treated as empty. */
+    private static final double NEGLIGIBLE_WEIGHT = 1e-6;
+
+    /** Variance floor, so topics with a flat history are not divided by zero. */
+    private static final double MIN_VARIANCE = 1.0;
+
+    /** Windows of history a topic needs before it can be reported, by default. */
+    private static final int DEFAULT_WARM_UP_WINDOWS = 3;
+
+    /** Weight of the newest window in the moving averages. */
+    private final double alpha;
+
+    /** Standard deviations above baseline that count as a burst. */
+    private final double zThreshold;
+
+    /** Minimum window count for a burst, to ignore noise from rare topics. */
+    private final int minCount;
+
+    /** Windows of history a topic needs before it can be reported. */
+    private final int warmUpWindows;
+
+    /** Windows of absence after which a topic's history has decayed away. */
+    private final long forgetAfter;
+
+    /** History of every recently seen topic. */
+    private final Map<String, TopicState> states = new HashMap<>();
+
+    /** Index of the current window. */
+    private long window;
+
+    /**
+     * Constructs a burst detector that needs {@value #DEFAULT_WARM_UP_WINDOWS}
+     * windows of history per topic before reporting it.
+     *
+     * @param alpha      weight of the newest window in the moving averages, in {@code (0, 1)}
+     * @param zThreshold standard deviations above baseline that count as a burst
+     * @param minCount   minimum window count for a topic to be reported
+     * @throws IllegalArgumentException if {@code alpha} is out of range
+     */
+    public BurstDetector(double alpha, double zThreshold, int minCount) {
+        this(alpha, zThreshold, minCount, DEFAULT_WARM_UP_WINDOWS);
+    }
+
+    /**
+     * Constructs a burst detector.
+     *
+     * @param alpha         weight of the newest window in the moving averages, in {@code (0, 1)}
+     * @param zThreshold    standard deviations above baseline that count as a burst
+     * @param minCount      minimum window count for a topic to be reported
+     * @param warmUpWindows windows of history a topic needs before it can be
+     *                      reported; must not be negative
+     * @throws IllegalArgumentException if {@code alpha} or {@code warmUpWindows} is out of range
+     */
+    public BurstDetector(double alpha, double zThreshold, int minCount, int warmUpWindows) {
+        if (!(alpha > 0 && alpha < 1))
+            throw new IllegalArgumentException("Alpha must be between 0 and 1.");
+        if (warmUpWindows < 0)
+            throw new IllegalArgumentException("Warm-up windows must not be negative.");
+        this.alpha         = alpha;
+        this.zThreshold    = zThreshold;
+        this.minCount      = minCount;
+        this.warmUpWindows = warmUpWindows;
+        this.forgetAfter   = (long) Math.ceil(Math.log(NEGLIGIBLE_WEIGHT) / Math.log(1 - alpha));
+    }
+
+    /**
+     * Feeds the counts of the next window and returns the topics bursting in
+     * it, highest z-score first.
+     *
+     * @param counts topic counts for this window; must not be {@code null}
+     * @return the bursting topics; empty if none
+     * @throws IllegalArgumentException if {@code counts} is {@code null}
+     */
+    public List<Burst> observe(Map<String, Integer> counts) {
+        if (counts == null) throw new IllegalArgumentException("Counts must not be null.");
+        window++;
+
+        List<Burst> bursts = new ArrayList<>();
+        for (Map.Entry<String, Integer> e : counts.entrySet()) {
+            String topic = e.getKey();
+            int    count = e.getValue();
+            TopicState state = states.get(topic);
+            if (state == null) {
+                state = new TopicState();
+                states.put(topic, state);
+            } else {
+                catchUp(state);
+            }
+
+            double zScore = (count - state.mean) / Math.sqrt(Math.max(state.variance, MIN_VARIANCE));
+            int previous  = state.lastWindow == window - 1 ? state.lastCount : 0;
+            if (count >= minCount && zScore > zThreshold && state.history >= warmUpWindows) {
+                bursts.add(new Burst(topic, count, state.mean, zScore, count - previous));
+            }
+            update(state, count);
+            state.lastCount  = count;
+            state.lastWindow = window;
+        }
+
+        forgetIdleTopics();
+        bursts.sort(Comparator.comparingDouble(Burst::getZScore).reversed()
+                .thenComparing(Burst::getTopic));
+        return bursts;
+    }
+
+    /** @return the number of topics with live history */
+    public int trackedTopics() { return states.size(); }
+
+    // ── Moving statistics ────────────────────────────────────────────────────
+
+    /**
+     * Applies the zero-count updates of every window the topic was absent,
+     * in closed form: after {@code k} zeros with {@code d = (1 - alpha)^k},
+     * the mean is {@code mean * d} and the variance is
+     * {@code d * (variance + mean^2 * (1 - d))}.
+     */
+    private void catchUp(TopicState state) {
+        long missed = window - state.lastWindow - 1;
+        if (missed <= 0) return;
+        if (missed >= forgetAfter) {
+            state.mean     = 0;
+            state.variance = 0;
+            state.history  = 0;
+            return;
+        }
+        double decay = Math.pow(1 - alpha, missed);
+        state.variance = decay * (state.variance + state.mean * state.mean * (1 - decay));
+        state.mean    *= decay;
+        state.history += missed;
+    }
+
+    /**
+     * Exponentially weighted mean and variance update. The first window of
+     * a history sets the mean outright rather than pulling it up from zero.
+     */
+    private void update(TopicState state, int count) {
+        if (state.history == 0) {
+            state.mean     = count;
+            state.variance = 0;
+            state.history  = 1;
+            return;
+        }
+        double diff  = count - state.mean;
+        double incr  = alpha * diff;
+        state.mean    += incr;
+        state.variance = (1 - alpha) * (state.variance + diff * incr);
+        state.history++;
+    }
+
+    /** Drops topics unseen for long enough that their history is negligible. */
+    private void forgetIdleTopics() {
+        if (window % forgetAfter != 0) return;
+        Iterator<TopicState> it = states.values().iterator();
+        while (it.hasNext()) {
+            if (window - it.next().lastWindow >= forgetAfter) it.remove();
+        }
+    }
+
+    /** Constant-size history of one topic. */
+    private static class TopicState {
+        double mean;
+        double variance;
+        long   history;     // windows folded into mean and variance
+        int    lastCount;
+        long   lastWindow;
+    }
+}
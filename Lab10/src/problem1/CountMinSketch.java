@@ -0,0 +1,118 @@
+package problem1;
+
+/**
+ * A Count-Min Sketch: a fixed-size table of counters that estimates how
+ * often each key has been seen, using memory independent of the number of
+ * distinct keys.
+ *
+ * <p>Each key is hashed once per row and the matching counter in every row
+ * is incremented. The rows do not reuse {@code String.hashCode}, whose
+ * collisions would repeat in every row: a key's characters are hashed once
+ * into 64 bits, and each row finalizes that hash with its own seed. The estimate for a key is the smallest of its counters,
+ * so it never under-counts. With {@code width = ⌈e / ε⌉} and
+ * {@code depth = ⌈ln(1 / δ)⌉}, an estimate exceeds the true count by more
+ * than {@code ε · N} (where {@code N} is the total added) with probability
+ * at most {@code δ}.</p>
+ *
+ * @author Ying Lu
+ */
+public class CountMinSketch {
+
+    /** Counter rows, {@code depth × width}. */
+    private final long[][] table;
+
+    /** Per-row hash seeds. */
+    private final long[] seeds;
+
+    /** Number of counters per row. */
+    private final int width;
+
+    /** Relative error ε the sketch was sized for. */
+    private final double epsilon;
+
+    /** Sum of all increments. */
+    private long total;
+
+    /**
+     * Constructs a sketch sized for the given error guarantees.
+     *
+     * @param epsilon relative error bound, in {@code (0, 1)}
+     * @param delta   failure probability, in {@code (0, 1)}
+     * @throws IllegalArgumentException if either argument is out of range
+     */
+    public CountMinSketch(double epsilon, double delta) {
+        if (!(epsilon > 0 && epsilon < 1))
+            throw new IllegalArgumentException("Epsilon must be between 0 and 1.");
+        if (!(delta > 0 && delta < 1))
+            throw new IllegalArgumentException("Delta must be between 0 and 1.");
+        this.epsilon = epsilon;
+        this.width   = (int) Math.ceil(Math.E / epsilon);
+        int depth    = (int) Math.ceil(Math.log(1 / delta));
+        this.table   = new long[depth][width];
+        this.seeds   = new long[depth];
+        for (int i = 0; i < depth; i++) seeds[i] = 0x9E3779B97F4A7C15L * (i + 1);
+    }
+
+    /**
+     * Adds {@code count} occurrences of {@code key}.
+     *
+     * @param key   the key; must not be {@code null}
+     * @param count the number of occurrences to add; must not be negative
+     */
+    public void add(String key, long count) {
+        long h = hash(key);
+        for (int row = 0; row < table.length; row++) {
+            table[row][index(h, row)] += count;
+        }
+        total += count;
+    }
+
+    /**
+     * Returns an upper-bound estimate of how often {@code key} was added.
+     *
+     * @param key the key; must not be {@code null}
+     * @return the estimated count, never below the true count
+     */
+    public long estimate(String key) {
+        long h = hash(key);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < table.length; row++) {
+            min = Math.min(min, table[row][index(h, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the additive error bound {@code ε · N} that estimates stay
+     * within with probability at least {@code 1 - δ}.
+     *
+     * @return the current error bound
+     */
+    public long errorBound() {
+        return (long) Math.ceil(epsilon * total);
+    }
+
+    /** @return the sum of all counts added */
+    public long total() { return total; }
+
+    /** Hashes the characters of {@code key} into 64 bits (FNV-1a). */
+    private static long hash(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+
+    /** Mixes the key hash with the row seed (murmur3 fmix64) and maps it onto a column. */
+    private int index(long hash, int row) {
+        long h = hash ^ seeds[row];
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) ((h >>> 1) % width);
+    }
+}
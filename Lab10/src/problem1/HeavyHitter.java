@@ -0,0 +1,52 @@
+package problem1;
+
+/**
+ * One result of an approximate top-K query: a topic, its estimated count,
+ * and how far that estimate may be from the true count.
+ *
+ * <p>The true count always lies in
+ * {@code [getCount() - getMaxError(), getCount()]}.</p>
+ *
+ * @author Ying Lu
+ */
+public class HeavyHitter {
+
+    /** The topic. */
+    private final String topic;
+
+    /** Upper-bound estimate of the topic's count. */
+    private final long count;
+
+    /** Maximum over-estimate contained in {@link #count}. */
+    private final long maxError;
+
+    /**
+     * Constructs a heavy-hitter result.
+     *
+     * @param topic    the topic
+     * @param count    upper-bound estimate of the topic's count
+     * @param maxError the most by which {@code count} may exceed the true count
+     */
+    public HeavyHitter(String topic, long count, long maxError) {
+        this.topic    = topic;
+        this.count    = count;
+        this.maxError = maxError;
+    }
+
+    /** @return the topic */
+    public String getTopic()   { return topic; }
+
+    /** @return the upper-bound estimate of the topic's count */
+    public long   getCount()   { return count; }
+
+    /** @return the most by which {@link #getCount()} may exceed the true count */
+    public long   getMaxError() { return maxError; }
+
+    /** @return the guaranteed lower bound on the topic's count */
+    public long   getMinCount() { return count - maxError; }
+
+    @Override
+    public String toString() {
+        return topic + "=" + count + " (max error " + maxError + ")";
+    }
+}
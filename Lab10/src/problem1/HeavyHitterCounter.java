@@ -0,0 +1,183 @@
+package problem1;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Approximate top-K topic counter whose memory stays flat no matter how
+ * many distinct topics the input contains.
+ *
+ * <p>Two bounded structures are combined:</p>
+ * <ul>
+ *   <li>a <b>Space-Saving</b> table of fixed capacity that tracks the
+ *       current candidates. When a new topic arrives and the table is full,
+ *       the candidate with the smallest count is evicted and the newcomer
+ *       inherits that count as its error. A candidate's count never
+ *       under-counts and over-counts by at most its inherited error.</li>
+ *   <li>a {@link CountMinSketch} over every topic, whose estimate is a
+ *       second, independent upper bound.</li>
+ * </ul>
+ *
+ * <p>Each reported count is the tighter of the two upper bounds, and the
+ * reported error is the distance from that bound down to the Space-Saving
+ * lower bound (see {@link HeavyHitter}). Any topic occurring more than
+ * {@code N / capacity} times is guaranteed to be in the table.</p>
+ *
+ * <p>The table is kept as an indexed min-heap, so each update costs
+ * O(log capacity). Instances are not thread-safe.</p>
+ *
+ * @author Ying Lu
+ */
+public class HeavyHitterCounter {
+
+    /** Candidate topics, arranged as a min-heap on {@link #counts}. */
+    private final String[] topics;
+
+    /** Space-Saving count per heap slot. */
+    private final long[] counts;
+
+    /** Error inherited on eviction, per heap slot. */
+    private final long[] errors;
+
+    /** Heap slot of every tracked topic; holds at most {@code capacity} entries. */
+    private final Map<String, Integer> slots;
+
+    /** Sketch over the full stream. */
+    private final CountMinSketch sketch;
+
+    /** Number of occupied heap slots. */
+    private int size;
+
+    /**
+     * Constructs a counter tracking up to {@code capacity} candidates, with a
+     * sketch sized for the given error guarantees.
+     *
+     * @param capacity the number of candidate topics to track; must be positive
+     * @param epsilon  sketch relative error bound, in {@code (0, 1)}
+     * @param delta    sketch failure probability, in {@code (0, 1)}
+     * @throws IllegalArgumentException if any argument is out of range
+     */
+    public HeavyHitterCounter(int capacity, double epsilon, double delta) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive.");
+        this.topics = new String[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.slots  = new HashMap<>(capacity * 2);
+        this.sketch = new CountMinSketch(epsilon, delta);
+    }
+
+    /**
+     * Records one occurrence of {@code topic}.
+     *
+     * @param topic the topic; must not be {@code null}
+     * @throws IllegalArgumentException if {@code topic} is {@code null}
+     */
+    public void add(String topic) {
+        if (topic == null) throw new IllegalArgumentException("Topic must not be null.");
+        sketch.add(topic, 1);
+
+        Integer slot = slots.get(topic);
+        if (slot != null) {
+            counts[slot]++;
+            siftDown(slot);
+        } else if (size < topics.length) {
+            topics[size] = topic;
+            counts[size] = 1;
+            errors[size] = 0;
+            slots.put(topic, size);
+            siftUp(size++);
+        } else {
+            // evict the minimum; the newcomer inherits its count as error
+            slots.remove(topics[0]);
+            long min = counts[0];
+            topics[0] = topic;
+            counts[0] = min + 1;
+            errors[0] = min;
+            slots.put(topic, 0);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Records one occurrence of every topic in {@code topics}.
+     *
+     * @param topics the batch of topics; must not be {@code null} nor contain {@code null}
+     * @throws IllegalArgumentException if {@code topics} or any element is {@code null}
+     */
+    public void addAll(Collection<String> topics) {
+        if (topics == null) throw new IllegalArgumentException("Topics must not be null.");
+        for (String topic : topics) add(topic);
+    }
+
+    /**
+     * Returns the {@code k} candidates with the highest estimated counts,
+     * highest first; ties are broken by topic in natural order.
+     *
+     * @param k the number of results wanted; must not be negative
+     * @return up to {@code k} heavy hitters with their error bounds
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public List<HeavyHitter> topK(int k) {
+        if (k < 0) throw new IllegalArgumentException("k must not be negative.");
+        List<HeavyHitter> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long upper = Math.min(counts[i], sketch.estimate(topics[i]));
+            long lower = counts[i] - errors[i];
+            result.add(new HeavyHitter(topics[i], upper, upper - lower));
+        }
+        result.sort(Comparator.comparingLong(HeavyHitter::getCount).reversed()
+                .thenComparing(HeavyHitter::getTopic));
+        return result.size() > k ? new ArrayList<>(result.subList(0, k)) : result;
+    }
+
+    /**
+     * Returns an upper-bound estimate of how often {@code topic} occurred,
+     * whether or not it is currently a candidate.
+     *
+     * @param topic the topic; must not be {@code null}
+     * @return the estimated count
+     */
+    public long estimate(String topic) {
+        Integer slot = slots.get(topic);
+        long sketched = sketch.estimate(topic);
+        return slot == null ? sketched : Math.min(counts[slot], sketched);
+    }
+
+    /** @return the total number of topics recorded */
+    public long total() { return sketch.total(); }
+
+    // ── Indexed min-heap ─────────────────────────────────────────────────────
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (counts[parent] <= counts[i]) return;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) return;
+            int right    = left + 1;
+            int smallest = right < size && counts[right] < counts[left] ? right : left;
+            if (counts[i] <= counts[smallest]) return;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        String t = topics[a]; topics[a] = topics[b]; topics[b] = t;
+        long   c = counts[a]; counts[a] = counts[b]; counts[b] = c;
+        long   e = errors[a]; errors[a] = errors[b]; errors[b] = e;
+        slots.put(topics[a], a);
+        slots.put(topics[b], b);
+    }
+}
@@ -0,0 +1,243 @@
+package problem1;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Counts the topics in a newline-delimited UTF-8 file by memory-mapping it,
+ * without reading the file into a {@code List<String>} first.
+ *
+ * <p>Line boundaries are found by scanning the mapped bytes directly, and
+ * each line is hashed and looked up as a byte range. A {@code String} is
+ * created only the first time a topic is seen; every later occurrence is a
+ * byte comparison against the stored copy and an {@code int} increment.
+ * Trailing {@code '\r'} characters are dropped and empty lines are skipped.</p>
+ *
+ * <p>The file can be split into regions that start and end on line
+ * boundaries. Each region is counted by its own thread into its own table,
+ * and the tables are merged at the end. Files larger than 2 GB are mapped
+ * one window at a time.</p>
+ *
+ * @author Ying Lu
+ */
+public class MappedTopicFileCounter {
+
+    /** Largest span mapped at once. */
+    private static final int MAX_WINDOW = 1 << 30;
+
+    private MappedTopicFileCounter() { }
+
+    /**
+     * Counts every line of {@code file} on the calling thread.
+     *
+     * @param file the topic file; must not be {@code null}
+     * @return the topic counts
+     * @throws IOException if the file cannot be read, or a line is longer than 1 GB
+     */
+    public static TopicCounter count(Path file) throws IOException {
+        return count(file, 1);
+    }
+
+    /**
+     * Counts every line of {@code file}, splitting it into {@code threads}
+     * regions counted in parallel.
+     *
+     * @param file    the topic file; must not be {@code null}
+     * @param threads the number of regions and worker threads; must be positive
+     * @return the topic counts
+     * @throws IOException if the file cannot be read, or a line is longer than 1 GB
+     * @throws IllegalArgumentException if {@code file} is {@code null} or
+     *                                  {@code threads} is not positive
+     */
+    public static TopicCounter count(Path file, int threads) throws IOException {
+        if (file == null) throw new IllegalArgumentException("File must not be null.");
+        if (threads <= 0) throw new IllegalArgumentException("Thread count must be positive.");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = splitAtLines(channel, threads);
+            if (bounds.length == 2) {
+                return countRegion(channel, bounds[0], bounds[1]).toCounter();
+            }
+
+            ExecutorService pool = Executors.newFixedThreadPool(bounds.length - 1);
+            try {
+                List<Future<ByteKeyTable>> parts = new ArrayList<>();
+                for (int i = 0; i + 1 < bounds.length; i++) {
+                    long from = bounds[i];
+                    long to   = bounds[i + 1];
+                    parts.add(pool.submit(() -> countRegion(channel, from, to)));
+                }
+                TopicCounter total = parts.get(0).get().toCounter();
+                for (int i = 1; i < parts.size(); i++) {
+                    parts.get(i).get().mergeInto(total);
+                }
+                return total;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while counting " + file, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+                throw new IOException("Failed to count " + file, e.getCause());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    // ── Region splitting ─────────────────────────────────────────────────────
+
+    /**
+     * Splits the file into at most {@code parts} regions whose boundaries
+     * sit just after a {@code '\n'}.
+     *
+     * @return ascending region boundaries, starting at 0 and ending at the file size
+     */
+    private static long[] splitAtLines(FileChannel channel, int parts) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        for (int i = 1; i < parts; i++) {
+            long guess = Math.max(size * i / parts, bounds.get(bounds.size() - 1));
+            long next  = nextLineStart(channel, guess, size);
+            if (next > bounds.get(bounds.size() - 1) && next < size) bounds.add(next);
+        }
+        bounds.add(size);
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) result[i] = bounds.get(i);
+        return result;
+    }
+
+    /** Returns the offset just past the first {@code '\n'} at or after {@code pos}. */
+    private static long nextLineStart(FileChannel channel, long pos, long size) throws IOException {
+        while (pos < size) {
+            int span = (int) Math.min(size - pos, 1 << 16);
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos, span);
+            for (int i = 0; i < span; i++) {
+                if (buf.get(i) == '\n') return pos + i + 1;
+            }
+            pos += span;
+        }
+        return size;
+    }
+
+    // ── Counting ─────────────────────────────────────────────────────────────
+
+    /** Counts the lines in {@code [from, to)}, which must start on a line boundary. */
+    private static ByteKeyTable countRegion(FileChannel channel, long from, long to) throws IOException {
+        ByteKeyTable table = new ByteKeyTable();
+        long pos = from;
+        while (pos < to) {
+            int span = (int) Math.min(to - pos, MAX_WINDOW);
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos, span);
+            boolean last = pos + span == to;
+            int lineStart = 0;
+            for (int i = 0; i < span; i++) {
+                if (buf.get(i) == '\n') {
+                    table.count(buf, lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+            if (last) {
+                table.count(buf, lineStart, span);   // final line without '\n'
+                lineStart = span;
+            } else if (lineStart == 0) {
+                throw new IOException("Line longer than " + MAX_WINDOW + " bytes at offset " + pos);
+            }
+            pos += lineStart;   // remap from the start of the unfinished line
+        }
+        return table;
+    }
+
+    /**
+     * An open-addressing counter keyed by UTF-8 byte ranges. Each slot keeps
+     * the key's bytes for comparison and the {@code String} created when the
+     * key was first seen.
+     */
+    private static class ByteKeyTable {
+
+        private byte[][] keyBytes = new byte[1 << 10][];
+        private String[] keys     = new String[1 << 10];
+        private int[]    hashes   = new int[1 << 10];
+        private int[]    counts   = new int[1 << 10];
+        private int      size;
+
+        /** Counts the line {@code buf[start, end)}, ignoring a trailing {@code '\r'}. */
+        void count(MappedByteBuffer buf, int start, int end) {
+            if (end > start && buf.get(end - 1) == '\r') end--;
+            if (end == start) return;
+
+            int hash = 1;
+            for (int i = start; i < end; i++) hash = 31 * hash + buf.get(i);
+            hash = TopicCounter.spread(hash);
+
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            while (keyBytes[slot] != null) {
+                if (hashes[slot] == hash && sameBytes(keyBytes[slot], buf, start, end)) {
+                    counts[slot]++;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            byte[] bytes = new byte[end - start];
+            buf.get(start, bytes);
+            keyBytes[slot] = bytes;
+            keys[slot]     = new String(bytes, StandardCharsets.UTF_8);
+            hashes[slot]   = hash;
+            counts[slot]   = 1;
+            if (++size * 3 >= keys.length * 2) resize();
+        }
+
+        private static boolean sameBytes(byte[] key, MappedByteBuffer buf, int start, int end) {
+            if (key.length != end - start) return false;
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != buf.get(start + i)) return false;
+            }
+            return true;
+        }
+
+        private void resize() {
+            byte[][] oldBytes  = keyBytes;
+            String[] oldKeys   = keys;
+            int[]    oldHashes = hashes;
+            int[]    oldCounts = counts;
+            int capacity = oldKeys.length << 1;
+            keyBytes = new byte[capacity][];
+            keys     = new String[capacity];
+            hashes   = new int[capacity];
+            counts   = new int[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldBytes[i] == null) continue;
+                int slot = oldHashes[i] & mask;
+                while (keyBytes[slot] != null) slot = (slot + 1) & mask;
+                keyBytes[slot] = oldBytes[i];
+                keys[slot]     = oldKeys[i];
+                hashes[slot]   = oldHashes[i];
+                counts[slot]   = oldCounts[i];
+            }
+        }
+
+        TopicCounter toCounter() {
+            TopicCounter counter = new TopicCounter(size);
+            mergeInto(counter);
+            return counter;
+        }
+
+        void mergeInto(TopicCounter counter) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) counter.add(keys[i], counts[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package problem1;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Maintains the top {@code k} topics incrementally as their counts grow,
+ * so the current leaders can be read at any time without rescanning or
+ * sorting all counts.
+ *
+ * <p>Feed it the new count of a topic whenever that count changes, for
+ * example straight from {@link TopicCounter#increment(String)}:</p>
+ * <pre>{@code
+ * tracker.update(topic, counter.increment(topic));
+ * }</pre>
+ *
+ * <p>Only the {@code k} current leaders are stored, ordered by count
+ * (highest first) and then by topic in natural order, so ties always
+ * resolve the same way. Each update costs O(log k). Counts are expected
+ * never to decrease: a leader whose count drops keeps its place even if an
+ * untracked topic has overtaken it. Instances are not thread-safe.</p>
+ *
+ * @author Ying Lu
+ */
+public class TopKTracker {
+
+    /** Maximum number of leaders kept. */
+    private final int k;
+
+    /** Leaders, best first. */
+    private final TreeSet<Leader> ranking = new TreeSet<>();
+
+    /** Leader entry of every tracked topic. */
+    private final Map<String, Leader> leaders = new HashMap<>();
+
+    /**
+     * Constructs a tracker that keeps the top {@code k} topics.
+     *
+     * @param k the number of leaders to keep; must be positive
+     * @throws IllegalArgumentException if {@code k} is not positive
+     */
+    public TopKTracker(int k) {
+        if (k <= 0) throw new IllegalArgumentException("k must be positive.");
+        this.k = k;
+    }
+
+    /**
+     * Reports that {@code topic} now has {@code count} occurrences.
+     *
+     * @param topic the topic; must not be {@code null}
+     * @param count the topic's new total count
+     * @throws IllegalArgumentException if {@code topic} is {@code null}
+     */
+    public void update(String topic, int count) {
+        if (topic == null) throw new IllegalArgumentException("Topic must not be null.");
+        Leader current = leaders.get(topic);
+        if (current != null) {
+            ranking.remove(current);
+        } else if (leaders.size() == k) {
+            Leader last = ranking.last();
+            if (compare(topic, count, last.topic, last.count) >= 0) return;
+            ranking.pollLast();
+            leaders.remove(last.topic);
+        }
+        Leader updated = new Leader(topic, count);
+        ranking.add(updated);
+        leaders.put(topic, updated);
+    }
+
+    /**
+     * Returns the current leaders, best first.
+     *
+     * @return up to {@code k} topic/count entries
+     */
+    public List<Map.Entry<String, Integer>> topK() {
+        List<Map.Entry<String, Integer>> result = new ArrayList<>(ranking.size());
+        for (Leader leader : ranking) {
+            result.add(new AbstractMap.SimpleImmutableEntry<>(leader.topic, leader.count));
+        }
+        return result;
+    }
+
+    /**
+     * The ranking order shared by every top-K query in this package: higher
+     * counts first, ties broken by topic in natural order.
+     *
+     * @return a negative number if the first topic ranks ahead of the second,
+     *         a positive number if behind, zero if they are the same entry
+     */
+    static int compare(String topicA, int countA, String topicB, int countB) {
+        if (countA != countB) return countA > countB ? -1 : 1;
+        return topicA.compareTo(topicB);
+    }
+
+    /** An immutable (topic, count) pair ordered by {@link #compare}. */
+    private static class Leader implements Comparable<Leader> {
+        final String topic;
+        final int    count;
+
+        Leader(String topic, int count) {
+            this.topic = topic;
+            this.count = count;
+        }
+
+        @Override
+        public int compareTo(Leader other) {
+            return compare(topic, count, other.topic, other.count);
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package problem1;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A String-to-int counter backed by an open-addressing hash table.
+ *
+ * <p>Keys, their cached hashes and their counts are held in three parallel
+ * arrays and collisions are resolved by linear probing. Counting a key that
+ * is already present is a probe plus an {@code int} increment — no boxing
+ * and no per-entry node objects. Removal uses backward-shift deletion, so
+ * the table never accumulates tombstones.</p>
+ *
+ * <p>{@link #asMap()} exposes the counts as a read-only
+ * {@code Map<String, Integer>}, which is what
+ * {@link TrendingTopics#countTopics(java.util.List)} returns. Instances are
+ * not thread-safe.</p>
+ *
+ * @author Ying Lu
+ */
+public class TopicCounter {
+
+    /** Initial table capacity; always a power of two. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Keys by slot; {@code null} marks an empty slot. */
+    private String[] keys;
+
+    /** Cached spread hash of the key in each slot. */
+    private int[] hashes;
+
+    /** Count of the key in each slot. */
+    private int[] counts;
+
+    /** Number of occupied slots. */
+    private int size;
+
+    /** Occupancy at which the table doubles (two thirds of capacity). */
+    private int resizeAt;
+
+    /** Constructs an empty counter. */
+    public TopicCounter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty counter sized for about {@code expectedKeys}
+     * distinct keys without resizing.
+     *
+     * @param expectedKeys the anticipated number of distinct keys; must not be negative
+     * @throws IllegalArgumentException if {@code expectedKeys} is negative
+     */
+    public TopicCounter(int expectedKeys) {
+        if (expectedKeys < 0) throw new IllegalArgumentException("Expected keys must not be negative.");
+        long wanted = Math.max(DEFAULT_CAPACITY, (long) expectedKeys * 3 / 2 + 1);
+        allocate((int) Math.min(1 << 30, Long.highestOneBit(wanted - 1) << 1));
+    }
+
+    // ── Counting ─────────────────────────────────────────────────────────────
+
+    /**
+     * Adds one to the count of {@code key}.
+     *
+     * @param key the key; must not be {@code null}
+     * @return the new count
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public int increment(String key) {
+        return add(key, 1);
+    }
+
+    /**
+     * Adds {@code delta} to the count of {@code key}. A key whose count
+     * reaches zero is removed.
+     *
+     * @param key   the key; must not be {@code null}
+     * @param delta the amount to add; may be negative
+     * @return the new count
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public int add(String key, int delta) {
+        if (key == null) throw new IllegalArgumentException("Topic must not be null.");
+        int hash = spread(key.hashCode());
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        String k;
+        while ((k = keys[slot]) != null) {
+            if (hashes[slot] == hash && (k == key || k.equals(key))) {
+                int count = counts[slot] + delta;
+                if (count == 0) deleteSlot(slot);
+                else            counts[slot] = count;
+                return count;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (delta == 0) return 0;
+        keys[slot]   = key;
+        hashes[slot] = hash;
+        counts[slot] = delta;
+        if (++size >= resizeAt) resize();
+        return delta;
+    }
+
+    /**
+     * Adds every count in {@code other} to this counter.
+     *
+     * @param other the counter to merge in; must not be {@code null}
+     */
+    public void mergeFrom(TopicCounter other) {
+        String[] otherKeys = other.keys;
+        for (int i = 0; i < otherKeys.length; i++) {
+            if (otherKeys[i] != null) add(otherKeys[i], other.counts[i]);
+        }
+    }
+
+    /** Removes every key, keeping the current table capacity. */
+    public void clear() {
+        Arrays.fill(keys, null);
+        size = 0;
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────
+
+    /**
+     * Returns the count of {@code key}.
+     *
+     * @param key the key
+     * @return the count; {@code 0} if the key is absent or {@code null}
+     */
+    public int get(Object key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : counts[slot];
+    }
+
+    /**
+     * Tells whether {@code key} has a non-zero count.
+     *
+     * @param key the key
+     * @return {@code true} if the key is present
+     */
+    public boolean contains(Object key) {
+        return find(key) >= 0;
+    }
+
+    /** @return the number of distinct keys */
+    public int size() { return size; }
+
+    /**
+     * Passes every key and its count to {@code action}, in table order,
+     * without boxing.
+     *
+     * @param action the callback; must not modify this counter
+     */
+    public void forEach(ObjIntConsumer<String> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) action.accept(keys[i], counts[i]);
+        }
+    }
+
+    /**
+     * Returns the {@code k} keys with the highest counts, best first, with
+     * ties broken by key in natural order.
+     *
+     * <p>Selection keeps a bounded min-heap of slot indices while scanning
+     * the table once, so it runs in O(n log k) and never builds a sorted
+     * copy of every entry.</p>
+     *
+     * @param k the number of results wanted; must not be negative
+     * @return up to {@code k} key/count entries
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public List<Map.Entry<String, Integer>> topK(int k) {
+        if (k < 0) throw new IllegalArgumentException("k must not be negative.");
+        int[] heap = new int[Math.min(k, size)];
+        int filled = 0;
+        for (int i = 0; i < keys.length && heap.length > 0; i++) {
+            if (keys[i] == null) continue;
+            if (filled < heap.length) {
+                heap[filled] = i;
+                siftUp(heap, filled++);
+            } else if (ranksBefore(i, heap[0])) {
+                heap[0] = i;
+                siftDown(heap, 0, filled);
+            }
+        }
+        // drain the heap worst-first, filling the result from the back
+        List<Map.Entry<String, Integer>> ranked = new ArrayList<>(Collections.nCopies(filled, null));
+        for (int n = filled; n > 0; n--) {
+            int slot = heap[0];
+            ranked.set(n - 1, new AbstractMap.SimpleImmutableEntry<>(keys[slot], counts[slot]));
+            heap[0] = heap[n - 1];
+            siftDown(heap, 0, n - 1);
+        }
+        return ranked;
+    }
+
+    /**
+     * Returns a read-only {@code Map} view of the counts. The view is live
+     * and must not be iterated while the counter is being modified.
+     *
+     * @return an unmodifiable map of key to count
+     */
+    public Map<String, Integer> asMap() {
+        return new MapView();
+    }
+
+    // ── Table internals ──────────────────────────────────────────────────────
+
+    private int find(Object key) {
+        if (key == null) return -1;
+        int hash = spread(key.hashCode());
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        String k;
+        while ((k = keys[slot]) != null) {
+            if (hashes[slot] == hash && (k == key || k.equals(key))) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Empties {@code slot} and shifts later entries of the same probe run
+     * back, so lookups never stop early at the hole.
+     */
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != null) {
+            int home = hashes[next] & mask;
+            // move the entry unless its home lies cyclically in (hole, next]
+            boolean stays = hole <= next ? (hole < home && home <= next)
+                                         : (hole < home || home <= next);
+            if (!stays) {
+                keys[hole]   = keys[next];
+                hashes[hole] = hashes[next];
+                counts[hole] = counts[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = null;
+        size--;
+    }
+
+    private void resize() {
+        String[] oldKeys   = keys;
+        int[]    oldHashes = hashes;
+        int[]    oldCounts = counts;
+        allocate(oldKeys.length << 1);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) continue;
+            int slot = oldHashes[i] & mask;
+            while (keys[slot] != null) slot = (slot + 1) & mask;
+            keys[slot]   = oldKeys[i];
+            hashes[slot] = oldHashes[i];
+            counts[slot] = oldCounts[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys     = new String[capacity];
+        hashes   = new int[capacity];
+        counts   = new int[capacity];
+        resizeAt = capacity / 3 * 2;
+    }
+
+    /** Tells whether the entry in slot {@code a} ranks ahead of slot {@code b}. */
+    private boolean ranksBefore(int a, int b) {
+        return TopKTracker.compare(keys[a], counts[a], keys[b], counts[b]) < 0;
+    }
+
+    /** Min-heap on rank: the worst-ranked slot sits at the root. */
+    private void siftUp(int[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!ranksBefore(heap[parent], heap[i])) return;
+            int t = heap[parent]; heap[parent] = heap[i]; heap[i] = t;
+            i = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int i, int n) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= n) return;
+            int right = left + 1;
+            int worst = right < n && ranksBefore(heap[left], heap[right]) ? right : left;
+            if (!ranksBefore(heap[i], heap[worst])) return;
+            int t = heap[worst]; heap[worst] = heap[i]; heap[i] = t;
+            i = worst;
+        }
+    }
+
+    /**
+     * Scrambles a {@code String} hash so that similar keys land far apart.
+     * Linear probing needs this: {@code String.hashCode} of keys that differ
+     * only in their last characters are nearly consecutive, which would
+     * otherwise pile up into long probe runs.
+     */
+    static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    // ── Map view ─────────────────────────────────────────────────────────────
+
+    /** Read-only {@code Map} adapter; boxes counts only when they are read. */
+    private class MapView extends AbstractMap<String, Integer> {
+
+        @Override public int     size()                  { return size; }
+        @Override public boolean containsKey(Object key) { return find(key) >= 0; }
+
+        @Override
+        public Integer get(Object key) {
+            int slot = find(key);
+            return slot < 0 ? null : counts[slot];
+        }
+
+        @Override
+        public Set<Map.Entry<String, Integer>> entrySet() {
+            return new AbstractSet<Map.Entry<String, Integer>>() {
+                @Override public int size() { return size; }
+
+                @Override
+                public Iterator<Map.Entry<String, Integer>> iterator() {
+                    return new Iterator<Map.Entry<String, Integer>>() {
+                        private int next = advance(0);
+
+                        private int advance(int from) {
+                            while (from < keys.length && keys[from] == null) from++;
+                            return from;
+                        }
+
+                        @Override public boolean hasNext() { return next < keys.length; }
+
+                        @Override
+                        public Map.Entry<String, Integer> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            Map.Entry<String, Integer> e =
+                                    new AbstractMap.SimpleImmutableEntry<>(keys[next], counts[next]);
+                            next = advance(next + 1);
+                            return e;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
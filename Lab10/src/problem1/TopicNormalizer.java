@@ -0,0 +1,172 @@
+package problem1;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps raw topic strings onto a canonical form so that variants such as
+ * {@code "Seattle"}, {@code "seattle"} and {@code "#Seattle"} are counted
+ * as one topic.
+ *
+ * <p>Each enabled step runs in this order:</p>
+ * <ol>
+ *   <li>Unicode NFC composition</li>
+ *   <li>stripping leading {@code '#'} characters</li>
+ *   <li>case folding (locale-independent lower case)</li>
+ *   <li>dropping topics on the stop list, or left empty by the steps above</li>
+ * </ol>
+ *
+ * <p>Results are kept in a bounded, least-recently-used intern cache keyed
+ * by both the raw and the canonical spelling. A repeated topic is resolved
+ * with one lookup and no allocation, and every spelling of a topic shares
+ * one canonical {@code String} instance, without the cache growing with the
+ * number of distinct topics.</p>
+ *
+ * <p>Instances are built with {@link Builder} and are not thread-safe.</p>
+ *
+ * @author Ying Lu
+ */
+public class TopicNormalizer {
+
+    /** Default number of raw and canonical spellings kept by the intern cache. */
+    private static final int DEFAULT_INTERN_CACHE_SIZE = 1 << 16;
+
+    /** Cached result for topics that normalize to nothing; compared by identity. */
+    private static final String DROPPED = new String("");
+
+    private final boolean     unicodeNormalization;
+    private final boolean     stripHashtags;
+    private final boolean     caseFolding;
+    private final Set<String> stopTopics;
+
+    /** Maximum number of spellings kept; {@code 0} disables interning. */
+    private final int internCacheSize;
+
+    /** Raw and canonical spellings to their canonical instance, least recently used first. */
+    private final Map<String, String> internCache;
+
+    private TopicNormalizer(Builder builder) {
+        this.unicodeNormalization = builder.unicodeNormalization;
+        this.stripHashtags        = builder.stripHashtags;
+        this.caseFolding          = builder.caseFolding;
+        this.stopTopics           = new HashSet<>();
+        this.internCacheSize      = builder.internCacheSize;
+        int capacity = internCacheSize;
+        this.internCache = new LinkedHashMap<String, String>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > capacity;
+            }
+        };
+        // stop topics are compared after the same normalization steps
+        for (String stop : builder.stopTopics) {
+            String canonical = canonicalize(stop);
+            if (canonical != null) stopTopics.add(canonical);
+        }
+    }
+
+    /**
+     * Returns the canonical form of {@code topic}, or {@code null} if the
+     * topic should not be counted.
+     *
+     * @param topic the raw topic; must not be {@code null}
+     * @return the shared canonical instance, or {@code null} for stop topics
+     *         and topics that normalize to the empty string
+     * @throws IllegalArgumentException if {@code topic} is {@code null}
+     */
+    public String normalize(String topic) {
+        if (topic == null) throw new IllegalArgumentException("Topic must not be null.");
+        if (internCacheSize == 0) {
+            String canonical = canonicalize(topic);
+            return canonical == null || stopTopics.contains(canonical) ? null : canonical;
+        }
+
+        String cached = internCache.get(topic);
+        if (cached != null) return cached == DROPPED ? null : cached;
+
+        String canonical = canonicalize(topic);
+        String shared;
+        if (canonical == null || stopTopics.contains(canonical)) {
+            shared = DROPPED;
+        } else {
+            // canonical forms map to themselves, so this finds the shared instance
+            shared = internCache.get(canonical);
+            if (shared == null) {
+                shared = canonical;
+                internCache.put(canonical, canonical);
+            }
+        }
+        internCache.put(topic, shared);
+        return shared == DROPPED ? null : shared;
+    }
+
+    /** Applies the enabled steps; {@code null} if nothing is left. */
+    private String canonicalize(String topic) {
+        String t = topic;
+        if (unicodeNormalization && !Normalizer.isNormalized(t, Normalizer.Form.NFC)) {
+            t = Normalizer.normalize(t, Normalizer.Form.NFC);
+        }
+        if (stripHashtags) {
+            int start = 0;
+            while (start < t.length() && t.charAt(start) == '#') start++;
+            if (start > 0) t = t.substring(start);
+        }
+        if (caseFolding) {
+            t = t.toLowerCase(Locale.ROOT);   // returns t itself when already lower case
+        }
+        return t.isEmpty() ? null : t;
+    }
+
+    // ── Builder ──────────────────────────────────────────────────────────────
+
+    /**
+     * Builder for {@link TopicNormalizer}. Every step is disabled until
+     * switched on.
+     */
+    public static class Builder {
+        private boolean           unicodeNormalization;
+        private boolean           stripHashtags;
+        private boolean           caseFolding;
+        private final Set<String> stopTopics      = new HashSet<>();
+        private int               internCacheSize = DEFAULT_INTERN_CACHE_SIZE;
+
+        /** @param enabled whether to compose topics to Unicode NFC */
+        public Builder setUnicodeNormalization(boolean enabled) { this.unicodeNormalization = enabled; return this; }
+
+        /** @param enabled whether to strip leading {@code '#'} characters */
+        public Builder setStripHashtags(boolean enabled)        { this.stripHashtags = enabled;        return this; }
+
+        /** @param enabled whether to fold topics to lower case */
+        public Builder setCaseFolding(boolean enabled)          { this.caseFolding = enabled;          return this; }
+
+        /**
+         * @param topic a topic to drop; it is normalized like any other topic
+         * @throws IllegalArgumentException if {@code topic} is {@code null}
+         */
+        public Builder addStopTopic(String topic) {
+            if (topic == null) throw new IllegalArgumentException("Stop topic must not be null.");
+            stopTopics.add(topic);
+            return this;
+        }
+
+        /**
+         * @param size the number of spellings the intern cache keeps;
+         *             {@code 0} disables interning
+         * @throws IllegalArgumentException if {@code size} is negative
+         */
+        public Builder setInternCacheSize(int size) {
+            if (size < 0) throw new IllegalArgumentException("Intern cache size must not be negative.");
+            this.internCacheSize = size;
+            return this;
+        }
+
+        /** @return a normalizer with the configured steps */
+        public TopicNormalizer build() { return new TopicNormalizer(this); }
+    }
+}
@@ -0,0 +1,288 @@
+package problem1;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Compact binary snapshots of topic counts, for shipping counts between
+ * ingest nodes and combining them into a cluster-wide view.
+ *
+ * <p>A snapshot file has this layout:</p>
+ * <pre>
+ *   magic        4 bytes   "TTS1"
+ *   entry count  8 bytes   big-endian long
+ *   entries      one per topic, sorted by the unsigned bytes of its UTF-8 key:
+ *     shared     varint    bytes shared with the previous key
+ *     length     varint    bytes that follow
+ *     suffix     bytes     the rest of the key
+ *     count      varint    the topic's count
+ * </pre>
+ *
+ * <p>Front coding stores only what each key adds to its predecessor, and
+ * counts take one byte below 128, so hashtag-style keys compress well.
+ * Because every file is sorted the same way, {@link #merge(List, Path)}
+ * combines any number of snapshots in one streaming pass over raw bytes,
+ * without decoding keys to {@code String} or building a {@code Map}.
+ * Counts are stored as longs so merged totals cannot overflow.</p>
+ *
+ * @author Ying Lu
+ */
+public class TopicSnapshot {
+
+    /** File signature: "TTS1". */
+    private static final int MAGIC = 0x54545331;
+
+    /** Byte offset of the entry count in the header. */
+    private static final int COUNT_OFFSET = 4;
+
+    private TopicSnapshot() { }
+
+    // ── Writing ──────────────────────────────────────────────────────────────
+
+    /**
+     * Writes the counts held by {@code counter} to {@code file}, replacing it.
+     *
+     * @param counter the counts to write; must not be {@code null}
+     * @param file    the destination; must not be {@code null}
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(TopicCounter counter, Path file) throws IOException {
+        List<KeyCount> entries = new ArrayList<>(counter.size());
+        counter.forEach((topic, count) -> entries.add(new KeyCount(topic, count)));
+        writeSorted(entries, file);
+    }
+
+    /**
+     * Writes {@code counts}, such as the result of
+     * {@link TrendingTopics#countTopics(List)}, to {@code file}, replacing it.
+     *
+     * @param counts the counts to write; must not be {@code null}
+     * @param file   the destination; must not be {@code null}
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Map<String, Integer> counts, Path file) throws IOException {
+        List<KeyCount> entries = new ArrayList<>(counts.size());
+        counts.forEach((topic, count) -> entries.add(new KeyCount(topic, count)));
+        writeSorted(entries, file);
+    }
+
+    private static void writeSorted(List<KeyCount> entries, Path file) throws IOException {
+        entries.sort((a, b) -> Arrays.compareUnsigned(a.key, b.key));
+        try (Encoder out = new Encoder(file)) {
+            for (KeyCount e : entries) out.write(e.key, e.key.length, e.count);
+        }
+    }
+
+    // ── Reading ──────────────────────────────────────────────────────────────
+
+    /**
+     * Passes every topic in {@code file} and its count to {@code action}, in
+     * file order, without loading the whole snapshot.
+     *
+     * @param file   the snapshot; must not be {@code null}
+     * @param action the callback
+     * @throws IOException if the file cannot be read or is not a snapshot
+     */
+    public static void forEach(Path file, ObjLongConsumer<String> action) throws IOException {
+        try (Cursor in = new Cursor(file)) {
+            while (in.advance()) {
+                action.accept(new String(in.key, 0, in.keyLength, StandardCharsets.UTF_8), in.count);
+            }
+        }
+    }
+
+    /**
+     * Reads {@code file} into a new {@link TopicCounter}.
+     *
+     * @param file the snapshot; must not be {@code null}
+     * @return the counts held by the snapshot
+     * @throws IOException if the file cannot be read, is not a snapshot, or
+     *                     holds a count too large for an {@code int}
+     */
+    public static TopicCounter read(Path file) throws IOException {
+        TopicCounter counter = new TopicCounter();
+        try (Cursor in = new Cursor(file)) {
+            while (in.advance()) {
+                if (in.count > Integer.MAX_VALUE)
+                    throw new IOException("Count " + in.count + " in " + file + " exceeds int range.");
+                counter.add(new String(in.key, 0, in.keyLength, StandardCharsets.UTF_8), (int) in.count);
+            }
+        }
+        return counter;
+    }
+
+    // ── Merging ──────────────────────────────────────────────────────────────
+
+    /**
+     * Combines several snapshots into one, summing the counts of topics that
+     * appear in more than one input.
+     *
+     * <p>The inputs are read in a single k-way merge; memory use depends on
+     * the number of inputs, not on the number of topics.</p>
+     *
+     * @param inputs the snapshots to combine; must not be {@code null}
+     * @param output the destination, replaced if it exists; must not be one of the inputs
+     * @throws IOException if any file cannot be read or written
+     */
+    public static void merge(List<Path> inputs, Path output) throws IOException {
+        if (inputs == null) throw new IllegalArgumentException("Inputs must not be null.");
+        List<Cursor> cursors = new ArrayList<>(inputs.size());
+        PriorityQueue<Cursor> queue = new PriorityQueue<>(Math.max(1, inputs.size()),
+                (a, b) -> Arrays.compareUnsigned(a.key, 0, a.keyLength, b.key, 0, b.keyLength));
+        try (Encoder out = new Encoder(output)) {
+            for (Path input : inputs) {
+                Cursor c = new Cursor(input);
+                cursors.add(c);
+                if (c.advance()) queue.add(c);
+            }
+            while (!queue.isEmpty()) {
+                Cursor head = queue.poll();
+                long total = head.count;
+                while (!queue.isEmpty() && sameKey(queue.peek(), head)) {
+                    Cursor same = queue.poll();
+                    total += same.count;
+                    if (same.advance()) queue.add(same);
+                }
+                out.write(head.key, head.keyLength, total);
+                if (head.advance()) queue.add(head);
+            }
+        } finally {
+            for (Cursor c : cursors) c.close();
+        }
+    }
+
+    private static boolean sameKey(Cursor a, Cursor b) {
+        return Arrays.equals(a.key, 0, a.keyLength, b.key, 0, b.keyLength);
+    }
+
+    // ── Encoding ─────────────────────────────────────────────────────────────
+
+    /** A topic's UTF-8 key and count, used while sorting a snapshot. */
+    private static class KeyCount {
+        final byte[] key;
+        final long   count;
+
+        KeyCount(String topic, long count) {
+            this.key   = topic.getBytes(StandardCharsets.UTF_8);
+            this.count = count;
+        }
+    }
+
+    /** Writes front-coded entries, which must arrive in sorted order. */
+    private static class Encoder implements AutoCloseable {
+        private final FileChannel  channel;
+        private final OutputStream out;
+        private byte[] previous = new byte[64];
+        private int    previousLength;
+        private long   entries;
+
+        Encoder(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            ByteBuffer header = ByteBuffer.allocate(COUNT_OFFSET + Long.BYTES).putInt(MAGIC).putLong(0);
+            out.write(header.array());
+        }
+
+        void write(byte[] key, int length, long count) throws IOException {
+            int shared = Arrays.mismatch(previous, 0, previousLength, key, 0, length);
+            if (shared < 0) shared = length;   // identical keys cannot occur in a sorted, merged stream
+            writeVarint(out, shared);
+            writeVarint(out, length - shared);
+            out.write(key, shared, length - shared);
+            writeVarint(out, count);
+
+            if (previous.length < length) previous = Arrays.copyOf(key, Math.max(length, previous.length * 2));
+            else System.arraycopy(key, 0, previous, 0, length);
+            previousLength = length;
+            entries++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                out.flush();
+                channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, entries), COUNT_OFFSET);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /** Decodes a snapshot one entry at a time into a reusable key buffer. */
+    private static class Cursor implements AutoCloseable {
+        private final DataInputStream in;
+        private final Path file;
+        private long   remaining;
+        byte[] key = new byte[64];
+        int    keyLength;
+        long   count;
+
+        Cursor(Path file) throws IOException {
+            this.file = file;
+            this.in   = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+            try {
+                if (in.readInt() != MAGIC) throw new IOException(file + " is not a topic snapshot.");
+                remaining = in.readLong();
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+        }
+
+        /** Moves to the next entry; {@code false} once the snapshot is exhausted. */
+        boolean advance() throws IOException {
+            if (remaining == 0) return false;
+            int shared = (int) readVarint(in);
+            int suffix = (int) readVarint(in);
+            if (shared > keyLength || suffix < 0)
+                throw new IOException("Corrupt entry in " + file);
+            if (key.length < shared + suffix) key = Arrays.copyOf(key, Math.max(shared + suffix, key.length * 2));
+            in.readFully(key, shared, suffix);
+            keyLength = shared + suffix;
+            count     = readVarint(in);
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException { in.close(); }
+    }
+
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException("Truncated topic snapshot.");
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint in topic snapshot.");
+    }
+}
@@ -0,0 +1,238 @@
+package problem1;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts topics over a sliding window of a stream, as a streaming
+ * companion to {@link TrendingTopics#countTopics(List)}.
+ *
+ * <p>The window is split into a fixed ring of buckets. New topics are
+ * counted into the current bucket and into a running total; when the
+ * window slides, the oldest bucket is subtracted from the total and reused.
+ * Expiring a bucket therefore never rescans history — each recorded topic
+ * is added once and subtracted once, so the cost per topic is O(1).</p>
+ *
+ * <p>Two window kinds are supported:</p>
+ * <ul>
+ *   <li><b>time</b> — {@link #ofDuration(Duration, int)}: the window covers
+ *       the last {@code window} of wall-clock time, sliding one bucket
+ *       ({@code window / buckets}) at a time</li>
+ *   <li><b>count</b> — {@link #ofCount(long, int)}: the window covers the
+ *       most recent topics, sliding once every {@code size / buckets} topics</li>
+ * </ul>
+ *
+ * <p>Window edges move in whole buckets, so more buckets give a smoother
+ * window at the price of more memory. Instances are not thread-safe.</p>
+ *
+ * @author Ying Lu
+ */
+public class TopicWindowCounter {
+
+    /** Number of buckets in the ring. */
+    private final int bucketCount;
+
+    /** Bucket width: milliseconds (time windows) or topics (count windows). */
+    private final long bucketSpan;
+
+    /** {@code true} for time windows, {@code false} for count windows. */
+    private final boolean timeBased;
+
+    /** Millisecond clock used by time windows; {@code null} for count windows. */
+    private final LongSupplier clock;
+
+    /** Per-bucket counts, indexed by {@code bucketId % bucketCount}. */
+    private final List<TopicCounter> buckets;
+
+    /** Running totals over every live bucket. */
+    private final TopicCounter totals = new TopicCounter();
+
+    /** Absolute id of the bucket currently being filled. */
+    private long currentBucket;
+
+    /** Topics recorded into the current bucket (count windows only). */
+    private long currentFill;
+
+    /** Total number of topics in the window. */
+    private long windowTotal;
+
+    private TopicWindowCounter(int bucketCount, long bucketSpan,
+                               boolean timeBased, LongSupplier clock) {
+        if (bucketCount <= 0)
+            throw new IllegalArgumentException("Bucket count must be positive.");
+        if (bucketSpan <= 0)
+            throw new IllegalArgumentException("Window must be at least one unit per bucket.");
+        this.bucketCount = bucketCount;
+        this.bucketSpan  = bucketSpan;
+        this.timeBased   = timeBased;
+        this.clock       = clock;
+        this.buckets     = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) buckets.add(new TopicCounter());
+        this.currentBucket = timeBased ? clock.getAsLong() / bucketSpan : 0;
+    }
+
+    /**
+     * Creates a counter over the last {@code window} of wall-clock time.
+     *
+     * @param window  the window length; must be at least {@code buckets} milliseconds
+     * @param buckets the number of buckets the window is split into; must be positive
+     * @return a new time-windowed counter
+     * @throws IllegalArgumentException if the arguments are out of range
+     */
+    public static TopicWindowCounter ofDuration(Duration window, int buckets) {
+        return ofDuration(window, buckets, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a counter over the last {@code window} of time as reported by
+     * {@code clock}. Useful for replaying logs or for testing.
+     *
+     * @param window  the window length; must be at least {@code buckets} milliseconds
+     * @param buckets the number of buckets the window is split into; must be positive
+     * @param clock   a source of the current time in milliseconds; must not be {@code null}
+     * @return a new time-windowed counter
+     * @throws IllegalArgumentException if the arguments are out of range
+     */
+    public static TopicWindowCounter ofDuration(Duration window, int buckets, LongSupplier clock) {
+        if (window == null) throw new IllegalArgumentException("Window must not be null.");
+        if (clock  == null) throw new IllegalArgumentException("Clock must not be null.");
+        if (buckets <= 0)   throw new IllegalArgumentException("Bucket count must be positive.");
+        return new TopicWindowCounter(buckets, window.toMillis() / buckets, true, clock);
+    }
+
+    /**
+     * Creates a counter over the most recent {@code size} topics.
+     *
+     * @param size    the number of topics in the window; must be at least {@code buckets}
+     * @param buckets the number of buckets the window is split into; must be positive
+     * @return a new count-windowed counter
+     * @throws IllegalArgumentException if the arguments are out of range
+     */
+    public static TopicWindowCounter ofCount(long size, int buckets) {
+        if (buckets <= 0) throw new IllegalArgumentException("Bucket count must be positive.");
+        return new TopicWindowCounter(buckets, size / buckets, false, null);
+    }
+
+    // ── Recording ────────────────────────────────────────────────────────────
+
+    /**
+     * Records one occurrence of {@code topic}.
+     *
+     * @param topic the topic; must not be {@code null}
+     * @throws IllegalArgumentException if {@code topic} is {@code null}
+     */
+    public void add(String topic) {
+        if (topic == null) throw new IllegalArgumentException("Topic must not be null.");
+        if (timeBased) {
+            advanceTo(clock.getAsLong() / bucketSpan);
+        } else if (currentFill == bucketSpan) {
+            advanceTo(currentBucket + 1);
+        }
+        buckets.get(slot(currentBucket)).increment(topic);
+        totals.increment(topic);
+        currentFill++;
+        windowTotal++;
+    }
+
+    /**
+     * Records one occurrence of every topic in {@code topics}, in order.
+     *
+     * @param topics the batch of topics; must not be {@code null} nor contain {@code null}
+     * @throws IllegalArgumentException if {@code topics} or any element is {@code null}
+     */
+    public void addAll(Collection<String> topics) {
+        if (topics == null) throw new IllegalArgumentException("Topics must not be null.");
+        for (String topic : topics) add(topic);
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────
+
+    /**
+     * Returns how many times {@code topic} occurred within the current window.
+     *
+     * @param topic the topic to look up
+     * @return the windowed count; {@code 0} if the topic is not in the window
+     */
+    public int count(String topic) {
+        slide();
+        return totals.get(topic);
+    }
+
+    /**
+     * Returns a read-only view of the counts within the current window, in
+     * the same shape as {@link TrendingTopics#countTopics(List)}.
+     *
+     * <p>The view is live: it reflects later additions and expiries, and
+     * must not be iterated while the counter is being updated.</p>
+     *
+     * @return an unmodifiable map of topic to windowed count
+     */
+    public Map<String, Integer> counts() {
+        slide();
+        return totals.asMap();
+    }
+
+    /**
+     * Returns the {@code k} most frequent topics within the current window,
+     * most frequent first, with ties broken by topic in natural order.
+     *
+     * @param k the number of results wanted; must not be negative
+     * @return up to {@code k} topic/count entries
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public List<Map.Entry<String, Integer>> topK(int k) {
+        slide();
+        return totals.topK(k);
+    }
+
+    /**
+     * Returns the number of topic occurrences within the current window.
+     *
+     * @return the windowed total
+     */
+    public long total() {
+        slide();
+        return windowTotal;
+    }
+
+    // ── Ring maintenance ─────────────────────────────────────────────────────
+
+    /** Expires buckets that have fallen out of a time window. */
+    private void slide() {
+        if (timeBased) advanceTo(clock.getAsLong() / bucketSpan);
+    }
+
+    /**
+     * Moves the window forward so that {@code bucketId} is the current
+     * bucket, expiring every bucket that falls off the back of the ring.
+     * A clock that moves backwards leaves the window where it is.
+     */
+    private void advanceTo(long bucketId) {
+        if (bucketId <= currentBucket) return;
+        long steps = Math.min(bucketId - currentBucket, bucketCount);
+        for (long id = bucketId - steps + 1; id <= bucketId; id++) {
+            expire(slot(id));
+        }
+        currentBucket = bucketId;
+        currentFill   = 0;
+    }
+
+    /** Subtracts an expiring bucket from the totals and empties it for reuse. */
+    private void expire(int slot) {
+        TopicCounter bucket = buckets.get(slot);
+        if (bucket.size() == 0) return;
+        bucket.forEach((topic, count) -> {
+            totals.add(topic, -count);
+            windowTotal -= count;
+        });
+        bucket.clear();
+    }
+
+    private int slot(long bucketId) {
+        return (int) Math.floorMod(bucketId, (long) bucketCount);
+    }
+}
@@ -1,21 +1,49 @@
 package problem1;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Identifies trending topics on a social media platform by counting
  * the occurrences of each topic string in a given list.
  *
- * <p>This class uses functional programming elements — specifically
- * Java Streams and lambda expressions — to perform the counting.</p>
+ * <p>Counting originally used a Streams {@code groupingBy} pipeline; it
+ * now goes through {@link TopicCounter}, an open-addressing table of
+ * primitive {@code int} counts. Two parts of the contract changed with it:
+ * the counting methods return a read-only {@code Map} view instead of a
+ * mutable {@code HashMap} (copy it with {@code new HashMap<>(counts)} to
+ * modify it), and a {@code null} topic is rejected with an
+ * {@link IllegalArgumentException} instead of a
+ * {@link NullPointerException}.</p>
+ *
+ * <p>For unbounded streams, {@link TopicWindowCounter} keeps the same
+ * counts over a sliding time or count window instead.</p>
  *
  * @author Ying Lu
  */
 public class TrendingTopics {
 
+    /** Default list size below which parallel counting stays sequential. */
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    /** Chunks per worker thread; a few extra let idle workers steal work. */
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    /** Candidates tracked per requested result by the approximate path. */
+    private static final int APPROX_CANDIDATES_PER_RESULT = 10;
+
+    /** Sketch relative error used by the approximate path. */
+    private static final double APPROX_EPSILON = 0.0001;
+
+    /** Sketch failure probability used by the approximate path. */
+    private static final double APPROX_DELTA = 0.01;
+
     /**
      * Counts the number of occurrences of every distinct String in the
      * input list and returns the result as a Map.
@@ -29,28 +57,238 @@ public class TrendingTopics {
      * the method returns:
      * {@code {Seattle=2, NEU=3}}</p>
      *
-     * <p>Implementation uses {@link java.util.stream.Collectors#groupingBy}
-     * with {@link java.util.stream.Collectors#counting} to count occurrences
-     * in a single stream pipeline, then casts the Long counts to Integer.</p>
+     * <p>Implementation counts into a {@link TopicCounter}, an open-addressing
+     * table of primitive {@code int} counts, so a repeated topic costs no
+     * allocation. The counter is returned through its read-only
+     * {@code Map} view, which boxes a count only when it is read.</p>
      *
      * @param topics a list of topic Strings; must not be {@code null}
-     * @return a {@code Map<String, Integer>} mapping each distinct topic
-     *         to its occurrence count
-     * @throws IllegalArgumentException if {@code topics} is {@code null}
+     * @return a read-only {@code Map<String, Integer>} mapping each distinct
+     *         topic to its occurrence count
+     * @throws IllegalArgumentException if {@code topics} is {@code null} or
+     *                                  contains {@code null}
      */
     public Map<String, Integer> countTopics(List<String> topics) {
         if (topics == null)
             throw new IllegalArgumentException("Topics list must not be null.");
 
-        return topics.stream()
-                // group identical strings together and count each group
-                .collect(Collectors.groupingBy(
-                        Function.identity(),          // key   = the string itself
-                        Collectors.collectingAndThen(
-                                Collectors.counting(),    // count occurrences as Long
-                                Long::intValue            // convert Long → Integer
-                        )
-                ));
+        TopicCounter counter = new TopicCounter();
+        topics.forEach(counter::increment);   // repeat keys: probe + int increment
+        return counter.asMap();
+    }
+
+    /**
+     * Counts topics like {@link #countTopics(List)} after mapping each one
+     * to its canonical form, so that variants such as {@code "Seattle"} and
+     * {@code "#seattle"} share one key.
+     *
+     * <p>Each topic is normalized and counted in the same pass over the
+     * list; topics that {@code normalizer} drops are not counted.</p>
+     *
+     * @param topics     a list of topic Strings; must not be {@code null}
+     * @param normalizer the normalization to apply; must not be {@code null}
+     * @return a read-only {@code Map<String, Integer>} mapping each distinct
+     *         canonical topic to its occurrence count
+     * @throws IllegalArgumentException if {@code topics} or {@code normalizer}
+     *                                  is {@code null}, or {@code topics}
+     *                                  contains {@code null}
+     */
+    public Map<String, Integer> countTopics(List<String> topics, TopicNormalizer normalizer) {
+        if (topics == null)
+            throw new IllegalArgumentException("Topics list must not be null.");
+        if (normalizer == null)
+            throw new IllegalArgumentException("Normalizer must not be null.");
+
+        TopicCounter counter = new TopicCounter();
+        for (String topic : topics) {
+            String canonical = normalizer.normalize(topic);
+            if (canonical != null) counter.increment(canonical);
+        }
+        return counter.asMap();
+    }
+
+    /**
+     * Counts the topics in a newline-delimited UTF-8 file, one topic per
+     * line, without loading the file into a list.
+     *
+     * <p>The file is memory-mapped and scanned by
+     * {@link MappedTopicFileCounter}; empty lines are skipped.</p>
+     *
+     * @param file the topic file; must not be {@code null}
+     * @return a read-only {@code Map<String, Integer>} mapping each distinct
+     *         topic to its occurrence count
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if {@code file} is {@code null}
+     */
+    public Map<String, Integer> countTopics(Path file) throws IOException {
+        return MappedTopicFileCounter.count(file).asMap();
+    }
+
+    /**
+     * Counts the topics in a newline-delimited UTF-8 file like
+     * {@link #countTopics(Path)}, splitting the file into {@code threads}
+     * line-aligned regions that are counted in parallel.
+     *
+     * @param file    the topic file; must not be {@code null}
+     * @param threads the number of regions and worker threads; must be positive
+     * @return a read-only {@code Map<String, Integer>} mapping each distinct
+     *         topic to its occurrence count
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if {@code file} is {@code null} or
+     *                                  {@code threads} is not positive
+     */
+    public Map<String, Integer> countTopics(Path file, int threads) throws IOException {
+        return MappedTopicFileCounter.count(file, threads).asMap();
+    }
+
+    /**
+     * Returns the {@code k} most frequent topics in the input list, most
+     * frequent first, with ties broken by topic in natural order.
+     *
+     * <p>Topics are counted once and the leaders are selected with a bounded
+     * heap ({@link TopicCounter#topK(int)}), so the full set of counts is
+     * never sorted. For counts that keep arriving, see {@link TopKTracker}.</p>
+     *
+     * @param topics a list of topic Strings; must not be {@code null}
+     * @param k      the number of results wanted; must not be negative
+     * @return up to {@code k} topic/count entries
+     * @throws IllegalArgumentException if {@code topics} is {@code null} or
+     *                                  contains {@code null}, or {@code k} is negative
+     */
+    public List<Map.Entry<String, Integer>> topK(List<String> topics, int k) {
+        if (topics == null)
+            throw new IllegalArgumentException("Topics list must not be null.");
+        if (k < 0)
+            throw new IllegalArgumentException("k must not be negative.");
+        TopicCounter counter = new TopicCounter();
+        topics.forEach(counter::increment);
+        return counter.topK(k);
+    }
+
+    /**
+     * Counts topics like {@link #countTopics(List)}, spreading the work over
+     * every available processor.
+     *
+     * @param topics a list of topic Strings; must not be {@code null}
+     * @return a read-only {@code Map<String, Integer>} mapping each distinct
+     *         topic to its occurrence count
+     * @throws IllegalArgumentException if {@code topics} is {@code null} or
+     *                                  contains {@code null}
+     * @see #countTopicsParallel(List, int, int)
+     */
+    public Map<String, Integer> countTopicsParallel(List<String> topics) {
+        return countTopicsParallel(topics,
+                Runtime.getRuntime().availableProcessors(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Counts topics like {@link #countTopics(List)} on a dedicated
+     * {@link ForkJoinPool}, producing an identical result.
+     *
+     * <p>The list is split in halves until it forms about four chunks per
+     * worker. Each chunk is counted into its own {@link TopicCounter}, and
+     * sibling results are merged on the way back up the split tree — the
+     * smaller partial into the larger — so no counter is ever shared between
+     * threads. Merging costs one probe per distinct topic in a partial, which
+     * is why chunks are kept few and large. Lists no longer than
+     * {@code threshold} are counted sequentially without starting a pool.</p>
+     *
+     * @param topics      a list of topic Strings; must not be {@code null}
+     * @param parallelism the number of worker threads; must be positive
+     * @param threshold   the largest list counted sequentially; must be positive
+     * @return a read-only {@code Map<String, Integer>} mapping each distinct
+     *         topic to its occurrence count
+     * @throws IllegalArgumentException if {@code topics} is {@code null} or
+     *                                  contains {@code null}, or if
+     *                                  {@code parallelism} or {@code threshold}
+     *                                  is not positive
+     */
+    public Map<String, Integer> countTopicsParallel(List<String> topics, int parallelism, int threshold) {
+        if (topics == null)
+            throw new IllegalArgumentException("Topics list must not be null.");
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        if (threshold <= 0)
+            throw new IllegalArgumentException("Threshold must be positive.");
+        if (topics.size() <= threshold || parallelism == 1)
+            return countTopics(topics);
+
+        // chunks index into the list, so make sure get(i) is O(1)
+        List<String> indexed = topics instanceof RandomAccess ? topics : new ArrayList<>(topics);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            int chunk = (int) Math.max(1, (long) indexed.size() / ((long) parallelism * CHUNKS_PER_WORKER));
+            return pool.invoke(new CountTask(indexed, 0, indexed.size(), chunk)).asMap();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Approximates the {@code k} most frequent topics in the input list using
+     * memory that does not grow with the number of distinct topics.
+     *
+     * <p>This is the bounded-memory alternative to {@link #countTopics(List)}
+     * for long-tailed input: it tracks {@code 10 · k} candidates in a
+     * {@link HeavyHitterCounter}, so every topic occurring more than
+     * {@code N / (10 · k)} times is reported. Each result carries the maximum
+     * amount by which its count may be over-estimated.</p>
+     *
+     * @param topics a list of topic Strings; must not be {@code null}
+     * @param k      the number of results wanted; must be positive
+     * @return up to {@code k} heavy hitters, most frequent first
+     * @throws IllegalArgumentException if {@code topics} is {@code null} or
+     *                                  {@code k} is not positive
+     */
+    public List<HeavyHitter> countTopicsApproximate(List<String> topics, int k) {
+        if (topics == null)
+            throw new IllegalArgumentException("Topics list must not be null.");
+        if (k <= 0)
+            throw new IllegalArgumentException("k must be positive.");
+
+        HeavyHitterCounter counter = new HeavyHitterCounter(
+                (int) Math.min(Integer.MAX_VALUE - 8, (long) k * APPROX_CANDIDATES_PER_RESULT),
+                APPROX_EPSILON, APPROX_DELTA);
+        topics.forEach(counter::add);
+        return counter.topK(k);
+    }
+
+    /** Counts one slice of the topic list, splitting it while it is too large. */
+    private static class CountTask extends RecursiveTask<TopicCounter> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> topics;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        CountTask(List<String> topics, int from, int to, int chunk) {
+            this.topics = topics;
+            this.from   = from;
+            this.to     = to;
+            this.chunk  = chunk;
+        }
+
+        @Override
+        protected TopicCounter compute() {
+            if (to - from <= chunk) {
+                TopicCounter counter = new TopicCounter();
+                for (int i = from; i < to; i++) counter.increment(topics.get(i));
+                return counter;
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(topics, from, mid, chunk);
+            left.fork();
+            TopicCounter right   = new CountTask(topics, mid, to, chunk).compute();
+            TopicCounter leftSum = left.join();
+            if (leftSum.size() >= right.size()) {
+                leftSum.mergeFrom(right);
+                return leftSum;
+            }
+            right.mergeFrom(leftSum);
+            return right;
+        }
     }
 
     // ── Demo ─────────────────────────────────────────────────────────────────
@@ -72,5 +310,18 @@ public class TrendingTopics {
         System.out.println("Topic counts:");
         counts.forEach((topic, count) ->
                 System.out.println("  " + topic + " → " + count));
+
+        System.out.println("Top 2: " + tt.topK(topics, 2));
+
+        TopicNormalizer normalizer = new TopicNormalizer.Builder()
+                .setCaseFolding(true)
+                .setStripHashtags(true)
+                .build();
+        System.out.println("Normalized: " + tt.countTopics(
+                List.of("Seattle", "#seattle", "SEATTLE", "NEU"), normalizer));
+
+        System.out.println("Approximate top 2:");
+        tt.countTopicsApproximate(topics, 2).forEach(hit ->
+                System.out.println("  " + hit));
     }
 }
\ No newline at end of file
@@ -1,7 +1,12 @@
 package problem2;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -18,9 +23,21 @@ public class OlderVehiclesFilter {
     /** The year threshold: vehicles manufactured strictly before this year are "older". */
     private static final int OLDER_THAN_YEAR = 1999;
 
+    /** Default fleet size below which parallel filtering stays sequential. */
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    /** Chunks per worker thread; a few extra let idle workers steal work. */
+    private static final int CHUNKS_PER_WORKER = 4;
+
     /** The list of vehicles to filter. */
     private List<Vehicle> vehicles = new ArrayList<>();
 
+    /** Columnar copy of the fleet; when set, filtering scans it instead of {@link #vehicles}. */
+    private VehicleColumns columns;
+
+    /** Year index over the fleet; when set, filtering reads matching buckets only. */
+    private YearIndex yearIndex;
+
     /**
      * Constructs an {@code OlderVehiclesFilter} from an existing list of vehicles.
      *
@@ -30,6 +47,35 @@ public class OlderVehiclesFilter {
         this.vehicles = vehicles;
     }
 
+    /**
+     * Constructs an {@code OlderVehiclesFilter} over a columnar vehicle store.
+     *
+     * <p>Filtering then scans the store's packed year column instead of a
+     * list of {@link Vehicle} objects; see {@link VehicleColumns}.</p>
+     *
+     * @param columns the vehicle store; must not be {@code null}
+     * @throws IllegalArgumentException if {@code columns} is {@code null}
+     */
+    public OlderVehiclesFilter(VehicleColumns columns) {
+        if (columns == null) throw new IllegalArgumentException("Columns must not be null.");
+        this.columns = columns;
+    }
+
+    /**
+     * Constructs an {@code OlderVehiclesFilter} over a {@link YearIndex}.
+     *
+     * <p>Filtering then reads only the year buckets below the cutoff, so its
+     * cost depends on the number of matches rather than the fleet size. The
+     * index may keep changing; each call sees its current contents.</p>
+     *
+     * @param yearIndex the year index; must not be {@code null}
+     * @throws IllegalArgumentException if {@code yearIndex} is {@code null}
+     */
+    public OlderVehiclesFilter(YearIndex yearIndex) {
+        if (yearIndex == null) throw new IllegalArgumentException("Year index must not be null.");
+        this.yearIndex = yearIndex;
+    }
+
     /**
      * Constructs an {@code OlderVehiclesFilter} from exactly three Vehicle objects.
      *
@@ -60,18 +106,198 @@ public class OlderVehiclesFilter {
      * </ol>
      * </p>
      *
+     * <p>When the filter was built over a {@link VehicleColumns} store, the
+     * same result is produced by a loop over its primitive year column; when
+     * built over a {@link YearIndex}, by reading the matching year buckets.</p>
+     *
      * @return a {@code List<String>} of formatted descriptions for all vehicles
      *         manufactured before 1999; empty list if none qualify
      */
     public List<String> filterOlderVehicles() {
+        return filterOlderVehicles(OLDER_THAN_YEAR);
+    }
+
+    /**
+     * Same as {@link #filterOlderVehicles()}, with a caller-chosen cutoff:
+     * returns the formatted descriptions of every vehicle manufactured
+     * strictly before {@code cutoffYear}.
+     *
+     * @param cutoffYear the exclusive upper bound on the model year
+     * @return a {@code List<String>} of formatted descriptions; empty list if
+     *         none qualify
+     */
+    public List<String> filterOlderVehicles(int cutoffYear) {
+        if (columns != null) return columns.describeBefore(cutoffYear);
+        if (yearIndex != null) {
+            List<Vehicle> older = yearIndex.before(cutoffYear);
+            List<String> result = new ArrayList<>(older.size());
+            for (Vehicle v : older) result.add(describe(v));
+            return result;
+        }
+
         return vehicles.stream()
-                .filter(v -> v.getYear() < OLDER_THAN_YEAR)   // keep year < 1999
-                .map(v -> "Make: "  + v.getMake()
-                        + ", Model: " + v.getModel()
-                        + ", Year: "  + v.getYear())           // format as string
+                .filter(v -> v.getYear() < cutoffYear)        // keep year < cutoff
+                .map(OlderVehiclesFilter::describe)            // format as string
                 .collect(Collectors.toList());                  // collect to list
     }
 
+    /**
+     * Same as {@link #filterOlderVehicles()}, spreading the work over every
+     * available processor.
+     *
+     * @return a {@code List<String>} of formatted descriptions for all vehicles
+     *         manufactured before 1999, in fleet order
+     * @see #filterOlderVehiclesParallel(int, int, int)
+     */
+    public List<String> filterOlderVehiclesParallel() {
+        return filterOlderVehiclesParallel(OLDER_THAN_YEAR,
+                Runtime.getRuntime().availableProcessors(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Same as {@link #filterOlderVehicles(int)}, run on a dedicated
+     * {@link ForkJoinPool}; the result is identical, in the same order.
+     *
+     * <p>The fleet is cut into about four chunks per worker. Each chunk is
+     * filtered and formatted independently into its own list, and the lists
+     * are concatenated once, in chunk order, into a result sized to fit.
+     * Fleets no larger than {@code threshold} are filtered sequentially
+     * without starting a pool.</p>
+     *
+     * @param cutoffYear  the exclusive upper bound on the model year
+     * @param parallelism the number of worker threads; must be positive
+     * @param threshold   the largest fleet filtered sequentially; must be positive
+     * @return a {@code List<String>} of formatted descriptions, in fleet order
+     * @throws IllegalArgumentException if {@code parallelism} or
+     *                                  {@code threshold} is not positive
+     */
+    public List<String> filterOlderVehiclesParallel(int cutoffYear, int parallelism, int threshold) {
+        if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be positive.");
+        if (threshold   <= 0) throw new IllegalArgumentException("Threshold must be positive.");
+
+        // size the work without copying anything, so small fleets stay cheap
+        int size = columns   != null ? columns.size()
+                 : yearIndex != null ? yearIndex.countBefore(cutoffYear)
+                 :                     vehicles.size();
+        if (size <= threshold || parallelism == 1) return filterOlderVehicles(cutoffYear);
+
+        IntFunction<String> describeIfOlder;   // null for rows that do not match
+        if (columns != null) {
+            describeIfOlder = row -> columns.year(row) < cutoffYear ? columns.describe(row) : null;
+        } else {
+            // the year index already holds only matches; the list needs O(1) get(i)
+            List<Vehicle> source = yearIndex != null ? yearIndex.before(cutoffYear)
+                    : vehicles instanceof RandomAccess ? vehicles : new ArrayList<>(vehicles);
+            describeIfOlder = i -> {
+                Vehicle v = source.get(i);
+                return v.getYear() < cutoffYear ? describe(v) : null;
+            };
+        }
+
+        int chunks    = (int) Math.min(size, (long) parallelism * CHUNKS_PER_WORKER);
+        List<List<String>> parts = new ArrayList<>(Collections.nCopies(chunks, null));
+        List<RecursiveAction> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int chunk = c;
+            int from  = (int) ((long) size * c / chunks);
+            int to    = (int) ((long) size * (c + 1) / chunks);
+            tasks.add(new RecursiveAction() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected void compute() {
+                    List<String> part = new ArrayList<>();
+                    for (int i = from; i < to; i++) {
+                        String line = describeIfOlder.apply(i);
+                        if (line != null) part.add(line);
+                    }
+                    parts.set(chunk, part);
+                }
+            });
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new RecursiveAction() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected void compute() { invokeAll(tasks); }
+            });
+        } finally {
+            pool.shutdown();
+        }
+
+        int total = 0;
+        for (List<String> part : parts) total += part.size();
+        List<String> result = new ArrayList<>(total);
+        for (List<String> part : parts) result.addAll(part);
+        return result;
+    }
+
+    /**
+     * Returns a cursor over the vehicles manufactured strictly before 1999,
+     * for reading the result a page at a time.
+     *
+     * @return a cursor positioned before the first match
+     * @see #olderVehicles(int)
+     */
+    public VehicleCursor olderVehicles() {
+        return olderVehicles(OLDER_THAN_YEAR);
+    }
+
+    /**
+     * Returns a cursor over the vehicles manufactured strictly before
+     * {@code cutoffYear}, in the same order as
+     * {@link #filterOlderVehicles(int)}.
+     *
+     * <p>Unlike {@code filterOlderVehicles}, nothing is collected or
+     * formatted up front: matches are found as the cursor advances and
+     * formatted only when asked for. The vehicles must not change while the
+     * cursor is in use.</p>
+     *
+     * @param cutoffYear the exclusive upper bound on the model year
+     * @return a cursor positioned before the first match
+     */
+    public VehicleCursor olderVehicles(int cutoffYear) {
+        if (columns != null)   return new VehicleCursor.ColumnCursor(columns, cutoffYear);
+        if (yearIndex != null) return new VehicleCursor.BucketCursor(yearIndex.bucketsBefore(cutoffYear));
+        return new VehicleCursor.ListCursor(vehicles, cutoffYear);
+    }
+
+    /**
+     * Returns one page of {@link #filterOlderVehicles(int)}: the formatted
+     * descriptions of matches {@code offset} to {@code offset + limit - 1}.
+     * Matches before the page are skipped without being formatted.
+     *
+     * @param cutoffYear the exclusive upper bound on the model year
+     * @param offset     the number of matches to skip; must not be negative
+     * @param limit      the maximum page size; must not be negative
+     * @return up to {@code limit} formatted descriptions
+     * @throws IllegalArgumentException if {@code offset} or {@code limit} is negative
+     */
+    public List<String> filterOlderVehicles(int cutoffYear, int offset, int limit) {
+        if (offset < 0) throw new IllegalArgumentException("Offset must not be negative.");
+        if (limit  < 0) throw new IllegalArgumentException("Limit must not be negative.");
+        VehicleCursor cursor = olderVehicles(cutoffYear);
+        cursor.skip(offset);
+        List<String> page = new ArrayList<>(Math.min(limit, 1024));
+        while (page.size() < limit && cursor.next()) page.add(cursor.describe());
+        return page;
+    }
+
+    /**
+     * Formats a vehicle as {@code "Make: <make>, Model: <model>, Year: <year>"}.
+     *
+     * @param v the vehicle
+     * @return the formatted description
+     */
+    static String describe(Vehicle v) {
+        return "Make: "    + v.getMake()
+             + ", Model: " + v.getModel()
+             + ", Year: "  + v.getYear();
+    }
+
     // ── Demo ─────────────────────────────────────────────────────────────────
 
     /**
@@ -93,5 +319,30 @@ public class OlderVehiclesFilter {
 
         System.out.println("Vehicles manufactured before 1999:");
         result.forEach(System.out::println);
+
+        OlderVehiclesFilter columnar = new OlderVehiclesFilter(VehicleColumns.of(vehicles));
+        System.out.println("Same query over the columnar store:");
+        columnar.filterOlderVehicles().forEach(System.out::println);
+
+        YearIndex index = new YearIndex(vehicles);
+        System.out.println("Vehicles from 1990 to 2010: " + index.countBetween(1990, 2010));
+        System.out.println("Vehicles manufactured before 1990:");
+        new OlderVehiclesFilter(index).filterOlderVehicles(1990).forEach(System.out::println);
+
+        System.out.println("Second page of older vehicles (2 per page):");
+        filter.filterOlderVehicles(OLDER_THAN_YEAR, 2, 2).forEach(System.out::println);
+
+        VehicleQueryEngine engine = new VehicleQueryEngine(VehicleColumns.of(vehicles));
+        System.out.println("Toyotas made from 1990 to 1998:");
+        engine.describe(VehiclePredicate.makeIs("Toyota"),
+                        VehiclePredicate.yearBetween(1990, 1998)).forEach(System.out::println);
+
+        VehicleFleet fleet = new VehicleFleet(vehicles);
+        try (OlderVehiclesView view = new OlderVehiclesView(fleet, OLDER_THAN_YEAR)) {
+            fleet.add(new Vehicle("Mazda", "Miata", 1992, null));
+            fleet.remove(vehicles.get(0));
+            System.out.println("Live view after adding a Miata and removing the Camry:");
+            view.descriptions().forEach(System.out::println);
+        }
     }
 }
\ No newline at end of file
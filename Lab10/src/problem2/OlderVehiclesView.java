@@ -0,0 +1,161 @@
+package problem2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A materialized view of the vehicles in a {@link VehicleFleet} made
+ * before a cutoff year, kept up to date as the fleet changes.
+ *
+ * <p>The view scans the fleet once when it is created and then listens for
+ * changes. Matching vehicles are kept in a doubly linked list with an
+ * identity map from vehicle to node, so every add, remove or replace costs
+ * O(1) whatever the fleet size. Each node also holds its vehicle's
+ * description, formatted once when the vehicle joins the view. A replaced
+ * vehicle that still matches keeps its place; other matches are ordered by
+ * when they joined the view, which is fleet order for a fleet that is only
+ * appended to.</p>
+ *
+ * <p>{@link #vehicles()} and {@link #descriptions()} return immutable
+ * snapshots that are shared by every reader until the next change. The
+ * first read after a change rebuilds the snapshot by copying one reference
+ * per match, O(matches), without formatting anything again; repeated reads
+ * of an unchanged view do no work at all. Call {@link #close()} to stop
+ * listening. Instances are not thread-safe.</p>
+ *
+ * @author Ying Lu
+ */
+public class OlderVehiclesView implements VehicleFleetListener, AutoCloseable {
+
+    private final VehicleFleet fleet;
+    private final int          cutoffYear;
+
+    /** Matching vehicles by identity; {@link Vehicle#equals} compares only the make. */
+    private final Map<Vehicle, Node> nodes = new IdentityHashMap<>();
+
+    /** Sentinel of the circular list of matches. */
+    private final Node head = new Node(null);
+
+    private List<Vehicle> vehicleSnapshot;
+    private List<String>  descriptionSnapshot;
+
+    /**
+     * Constructs a view of the vehicles in {@code fleet} made strictly
+     * before {@code cutoffYear}, and starts listening to it.
+     *
+     * @param fleet      the fleet to watch; must not be {@code null}
+     * @param cutoffYear the exclusive upper bound on the year
+     * @throws IllegalArgumentException if {@code fleet} is {@code null}
+     */
+    public OlderVehiclesView(VehicleFleet fleet, int cutoffYear) {
+        if (fleet == null) throw new IllegalArgumentException("Fleet must not be null.");
+        this.fleet      = fleet;
+        this.cutoffYear = cutoffYear;
+        head.previous = head;
+        head.next     = head;
+        for (Vehicle v : fleet.vehicles()) vehicleAdded(v);
+        fleet.addListener(this);
+    }
+
+    // ── Snapshots ────────────────────────────────────────────────────────────
+
+    /** @return an immutable snapshot of the matching vehicles */
+    public List<Vehicle> vehicles() {
+        if (vehicleSnapshot == null) {
+            List<Vehicle> result = new ArrayList<>(nodes.size());
+            for (Node n = head.next; n != head; n = n.next) result.add(n.vehicle);
+            vehicleSnapshot = Collections.unmodifiableList(result);
+        }
+        return vehicleSnapshot;
+    }
+
+    /**
+     * @return an immutable snapshot of the matching vehicles formatted like
+     *         {@link OlderVehiclesFilter#filterOlderVehicles()}
+     */
+    public List<String> descriptions() {
+        if (descriptionSnapshot == null) {
+            List<String> result = new ArrayList<>(nodes.size());
+            for (Node n = head.next; n != head; n = n.next) result.add(n.description);
+            descriptionSnapshot = Collections.unmodifiableList(result);
+        }
+        return descriptionSnapshot;
+    }
+
+    /** @return the number of matching vehicles */
+    public int size() { return nodes.size(); }
+
+    /** @return the exclusive upper bound on the year */
+    public int cutoffYear() { return cutoffYear; }
+
+    /** Stops listening to the fleet; the view keeps its last contents. */
+    @Override
+    public void close() {
+        fleet.removeListener(this);
+    }
+
+    // ── Fleet events ─────────────────────────────────────────────────────────
+
+    @Override
+    public void vehicleAdded(Vehicle vehicle) {
+        if (!matches(vehicle)) return;
+        Node node = new Node(vehicle);
+        node.previous = head.previous;
+        node.next     = head;
+        head.previous.next = node;
+        head.previous      = node;
+        nodes.put(vehicle, node);
+        invalidate();
+    }
+
+    @Override
+    public void vehicleRemoved(Vehicle vehicle) {
+        Node node = nodes.remove(vehicle);
+        if (node == null) return;
+        node.previous.next = node.next;
+        node.next.previous = node.previous;
+        invalidate();
+    }
+
+    @Override
+    public void vehicleReplaced(Vehicle previous, Vehicle replacement) {
+        Node node = nodes.get(previous);
+        if (node != null && matches(replacement)) {
+            nodes.remove(previous);
+            node.vehicle     = replacement;
+            node.description = OlderVehiclesFilter.describe(replacement);
+            nodes.put(replacement, node);
+            invalidate();
+        } else {
+            vehicleRemoved(previous);
+            vehicleAdded(replacement);
+        }
+    }
+
+    // ── Internals ────────────────────────────────────────────────────────────
+
+    private boolean matches(Vehicle vehicle) {
+        return vehicle.getYear() != null && vehicle.getYear() < cutoffYear;
+    }
+
+    private void invalidate() {
+        vehicleSnapshot     = null;
+        descriptionSnapshot = null;
+    }
+
+    /** A node of the list of matches, with its description formatted once. */
+    private static class Node {
+        Vehicle vehicle;
+        String  description;
+        Node    previous;
+        Node    next;
+
+        Node(Vehicle vehicle) {
+            this.vehicle     = vehicle;
+            this.description = vehicle == null ? null : OlderVehiclesFilter.describe(vehicle);
+        }
+    }
+}
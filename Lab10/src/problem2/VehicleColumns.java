@@ -0,0 +1,330 @@
+package problem2;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A column-oriented store of vehicles, for filtering very large fleets.
+ *
+ * <p>Instead of one {@link Vehicle} object per row, every field lives in its
+ * own primitive array:</p>
+ * <ul>
+ *   <li><b>make</b> and <b>model</b> — dictionary-encoded: each distinct
+ *       string is stored once and rows hold an {@code int} code</li>
+ *   <li><b>year</b> — a packed {@code short[]}</li>
+ *   <li><b>color</b> — the ARGB value in an {@code int[]}, with a separate
+ *       flag for vehicles whose color is {@code null}</li>
+ * </ul>
+ *
+ * <p>A year filter is then a sequential loop over a {@code short[]}: no
+ * pointer chasing, no unboxing, and 2 bytes of memory traffic per vehicle.
+ * Strings and {@code Vehicle} objects are only created for rows that are
+ * actually returned.</p>
+ *
+ * @author Ying Lu
+ */
+public class VehicleColumns {
+
+    /** Code stored for a {@code null} make or model. */
+    static final int NULL_CODE = -1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Dictionary makes  = new Dictionary();
+    private final Dictionary models = new Dictionary();
+
+    private int[]     makeCodes  = new int[DEFAULT_CAPACITY];
+    private int[]     modelCodes = new int[DEFAULT_CAPACITY];
+    private short[]   years      = new short[DEFAULT_CAPACITY];
+    private int[]     colors     = new int[DEFAULT_CAPACITY];
+    private boolean[] hasColor   = new boolean[DEFAULT_CAPACITY];
+    private int       size;
+
+    /** Constructs an empty store. */
+    public VehicleColumns() { }
+
+    /**
+     * Constructs a store holding every vehicle in {@code vehicles}, in order.
+     *
+     * @param vehicles the vehicles to load; must not be {@code null}
+     * @return the populated store
+     * @throws IllegalArgumentException if {@code vehicles} is {@code null} or
+     *                                  any vehicle has no year
+     */
+    public static VehicleColumns of(List<Vehicle> vehicles) {
+        if (vehicles == null) throw new IllegalArgumentException("Vehicles must not be null.");
+        VehicleColumns columns = new VehicleColumns();
+        columns.ensureCapacity(vehicles.size());
+        for (Vehicle v : vehicles) columns.add(v);
+        return columns;
+    }
+
+    // ── Appending ────────────────────────────────────────────────────────────
+
+    /**
+     * Appends a vehicle as a new row.
+     *
+     * @param vehicle the vehicle; must not be {@code null} and must have a year
+     * @return the new row's index
+     * @throws IllegalArgumentException if {@code vehicle} or its year is {@code null}
+     */
+    public int add(Vehicle vehicle) {
+        if (vehicle == null) throw new IllegalArgumentException("Vehicle must not be null.");
+        if (vehicle.getYear() == null) throw new IllegalArgumentException("Vehicle year must not be null.");
+        return add(vehicle.getMake(), vehicle.getModel(), vehicle.getYear(), vehicle.getVehicleColor());
+    }
+
+    /**
+     * Appends a row from its field values.
+     *
+     * @param make  the make; may be {@code null}
+     * @param model the model; may be {@code null}
+     * @param year  the year; must fit in a {@code short}
+     * @param color the color; may be {@code null}
+     * @return the new row's index
+     * @throws IllegalArgumentException if {@code year} does not fit in a {@code short}
+     */
+    public int add(String make, String model, int year, Color color) {
+        if (year != (short) year) throw new IllegalArgumentException("Year out of range: " + year);
+        ensureCapacity(size + 1);
+        makeCodes[size]  = makes.encode(make);
+        modelCodes[size] = models.encode(model);
+        years[size]      = (short) year;
+        hasColor[size]   = color != null;
+        colors[size]     = color == null ? 0 : color.getRGB();
+        return size++;
+    }
+
+    // ── Row access ───────────────────────────────────────────────────────────
+
+    /** @return the number of rows */
+    public int size() { return size; }
+
+    /**
+     * @param row the row index
+     * @return the year of that row
+     */
+    public int year(int row) {
+        checkRow(row);
+        return years[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return the make of that row; may be {@code null}
+     */
+    public String make(int row) {
+        checkRow(row);
+        return makes.decode(makeCodes[row]);
+    }
+
+    /**
+     * @param row the row index
+     * @return the model of that row; may be {@code null}
+     */
+    public String model(int row) {
+        checkRow(row);
+        return models.decode(modelCodes[row]);
+    }
+
+    /**
+     * @param row the row index
+     * @return the color of that row; {@code null} if it has none
+     */
+    public Color color(int row) {
+        checkRow(row);
+        return hasColor[row] ? new Color(colors[row], true) : null;
+    }
+
+    /**
+     * Materializes one row as a {@link Vehicle}.
+     *
+     * @param row the row index
+     * @return a new Vehicle holding that row's values
+     */
+    public Vehicle get(int row) {
+        return new Vehicle(make(row), model(row), year(row), color(row));
+    }
+
+    // ── Filtering ────────────────────────────────────────────────────────────
+
+    /**
+     * Returns the indices of every row whose year is strictly before
+     * {@code year}, in row order.
+     *
+     * @param year the exclusive upper bound
+     * @return the matching row indices
+     */
+    public int[] rowsBefore(int year) {
+        short[] ys  = years;
+        int     n   = size;
+        int[]   hit = new int[Math.min(n, 1024)];
+        int     found = 0;
+        for (int row = 0; row < n; row++) {
+            if (ys[row] < year) {
+                if (found == hit.length) hit = Arrays.copyOf(hit, Math.min(n, found * 2));
+                hit[found++] = row;
+            }
+        }
+        return Arrays.copyOf(hit, found);
+    }
+
+    /**
+     * Returns the first row at or after {@code fromRow} whose year is
+     * strictly before {@code year}.
+     *
+     * @param year    the exclusive upper bound
+     * @param fromRow the row to start scanning at
+     * @return the matching row index, or {@code -1} if there is none
+     */
+    int nextRowBefore(int year, int fromRow) {
+        short[] ys = years;
+        for (int row = Math.max(0, fromRow); row < size; row++) {
+            if (ys[row] < year) return row;
+        }
+        return -1;
+    }
+
+    /**
+     * Formats one row like {@link OlderVehiclesFilter#filterOlderVehicles()}:
+     * {@code "Make: <make>, Model: <model>, Year: <year>"}.
+     *
+     * @param row the row index
+     * @return the formatted description
+     */
+    public String describe(int row) {
+        return "Make: "    + make(row)
+             + ", Model: " + model(row)
+             + ", Year: "  + year(row);
+    }
+
+    /**
+     * Returns the formatted descriptions of every row whose year is strictly
+     * before {@code year}, in row order.
+     *
+     * @param year the exclusive upper bound
+     * @return the formatted descriptions; empty if none match
+     */
+    public List<String> describeBefore(int year) {
+        int[] rows = rowsBefore(year);
+        List<String> result = new ArrayList<>(rows.length);
+        for (int row : rows) result.add(describe(row));
+        return result;
+    }
+
+    // ── Raw column access for indexes ────────────────────────────────────────
+
+    /** @return the make code of {@code row}, or {@link #NULL_CODE} */
+    int makeCode(int row) { return makeCodes[row]; }
+
+    /** @return the ARGB color of {@code row}; meaningless unless {@link #hasColor(int)} */
+    int rgb(int row) { return colors[row]; }
+
+    /** @return whether {@code row} has a color */
+    boolean hasColor(int row) { return hasColor[row]; }
+
+    /** @return the dictionary code of {@code make}, or {@code -2} if no row has it */
+    int codeOfMake(String make) {
+        if (make == null) return NULL_CODE;
+        Integer code = makes.codes.get(make);
+        return code == null ? -2 : code;
+    }
+
+    /** @return the model code of {@code row}, or {@link #NULL_CODE} */
+    int modelCode(int row) { return modelCodes[row]; }
+
+    /** @return the distinct makes, indexed by code; must not be modified */
+    List<String> makeValues() { return makes.values; }
+
+    /** @return the distinct models, indexed by code; must not be modified */
+    List<String> modelValues() { return models.values; }
+
+    /**
+     * Builds a store directly from its columns, taking ownership of the
+     * arrays; used by {@link VehicleSnapshot}.
+     *
+     * @param makeValues  the distinct makes, indexed by code
+     * @param modelValues the distinct models, indexed by code
+     * @param makeCodes   the make code of each row
+     * @param modelCodes  the model code of each row
+     * @param years       the year of each row
+     * @param colors      the ARGB color of each row
+     * @param hasColor    whether each row has a color
+     * @return the store
+     * @throws IllegalArgumentException if the columns differ in length, a
+     *                                  dictionary repeats a value, or a code
+     *                                  is out of range
+     */
+    static VehicleColumns fromColumns(List<String> makeValues, List<String> modelValues,
+                                      int[] makeCodes, int[] modelCodes, short[] years,
+                                      int[] colors, boolean[] hasColor) {
+        int n = years.length;
+        if (makeCodes.length != n || modelCodes.length != n || colors.length != n || hasColor.length != n)
+            throw new IllegalArgumentException("Columns differ in length.");
+        VehicleColumns columns = new VehicleColumns();
+        columns.makes.load(makeValues);
+        columns.models.load(modelValues);
+        for (int row = 0; row < n; row++) {
+            if (makeCodes[row]  < NULL_CODE || makeCodes[row]  >= makeValues.size()
+             || modelCodes[row] < NULL_CODE || modelCodes[row] >= modelValues.size())
+                throw new IllegalArgumentException("Dictionary code out of range at row " + row);
+        }
+        columns.makeCodes  = makeCodes;
+        columns.modelCodes = modelCodes;
+        columns.years      = years;
+        columns.colors     = colors;
+        columns.hasColor   = hasColor;
+        columns.size       = n;
+        return columns;
+    }
+
+    // ── Internals ────────────────────────────────────────────────────────────
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+    }
+
+    private void ensureCapacity(int wanted) {
+        if (wanted <= years.length) return;
+        int capacity = Math.max(wanted, years.length * 2);
+        makeCodes  = Arrays.copyOf(makeCodes,  capacity);
+        modelCodes = Arrays.copyOf(modelCodes, capacity);
+        years      = Arrays.copyOf(years,      capacity);
+        colors     = Arrays.copyOf(colors,     capacity);
+        hasColor   = Arrays.copyOf(hasColor,   capacity);
+    }
+
+    /** Assigns dense {@code int} codes to distinct strings. */
+    static class Dictionary {
+        private final List<String>         values = new ArrayList<>();
+        private final Map<String, Integer> codes  = new HashMap<>();
+
+        int encode(String value) {
+            if (value == null) return NULL_CODE;
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                values.add(value);
+                codes.put(value, code);
+            }
+            return code;
+        }
+
+        /** Assigns codes {@code 0..n-1} to {@code initial}, which must hold distinct values. */
+        void load(List<String> initial) {
+            for (String value : initial) {
+                if (value == null || codes.containsKey(value))
+                    throw new IllegalArgumentException("Dictionary values must be distinct and non-null.");
+                encode(value);
+            }
+        }
+
+        String decode(int code) {
+            return code == NULL_CODE ? null : values.get(code);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package problem2;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bulk-loads vehicles from a CSV file with the columns
+ * {@code make,model,year,color}.
+ *
+ * <p>The file is memory-mapped and parsed byte by byte:</p>
+ * <ul>
+ *   <li>years are accumulated digit by digit, with no substring and no
+ *       {@code Integer.parseInt}</li>
+ *   <li>make and model strings are interned by their bytes, so each distinct
+ *       value is decoded to a {@code String} once, however many rows share it</li>
+ *   <li>colors are parsed from {@code #RRGGBB} hex (the {@code #} is optional)
+ *       or from a {@link Color} constant name such as {@code red} or
+ *       {@code DARK_GRAY}, ignoring case and underscores, and each distinct
+ *       color is created once and then served from a cache</li>
+ * </ul>
+ *
+ * <p>Fields are trimmed of surrounding spaces and tabs; quoting is not
+ * supported. Blank lines are skipped, an empty color field means
+ * {@code null}, and a first line whose year field is not a number is
+ * treated as a header. Years must fit in a {@code short}, as
+ * {@link VehicleColumns} stores them. Any other malformed line stops the
+ * load with an {@link IOException} naming the line.</p>
+ *
+ * @author Ying Lu
+ */
+public class VehicleCsvLoader {
+
+    /** Largest span mapped at once. */
+    private static final int MAX_WINDOW = 1 << 30;
+
+    /** Named colors accepted in the color column, by lower-case name without underscores. */
+    private static final Map<String, Color> NAMED_COLORS = new HashMap<>();
+    static {
+        Object[][] names = {
+            {"black", Color.BLACK}, {"blue", Color.BLUE}, {"cyan", Color.CYAN},
+            {"darkgray", Color.DARK_GRAY}, {"gray", Color.GRAY}, {"green", Color.GREEN},
+            {"lightgray", Color.LIGHT_GRAY}, {"magenta", Color.MAGENTA}, {"orange", Color.ORANGE},
+            {"pink", Color.PINK}, {"red", Color.RED}, {"white", Color.WHITE}, {"yellow", Color.YELLOW}
+        };
+        for (Object[] n : names) NAMED_COLORS.put((String) n[0], (Color) n[1]);
+    }
+
+    /** Receives one parsed row. */
+    private interface RowSink {
+        void accept(String make, String model, int year, Color color);
+    }
+
+    private final ByteInterner strings = new ByteInterner();
+    private final ColorTable   colors  = new ColorTable();
+
+    /** Start and end offsets of the four fields of the current line. */
+    private final int[] bounds = new int[8];
+
+    private VehicleCsvLoader() { }
+
+    /**
+     * Loads every vehicle in {@code file} as {@link Vehicle} objects, in file order.
+     *
+     * @param file the CSV file; must not be {@code null}
+     * @return the loaded vehicles
+     * @throws IOException if the file cannot be read or a line is malformed
+     */
+    public static List<Vehicle> load(Path file) throws IOException {
+        List<Vehicle> vehicles = new ArrayList<>();
+        new VehicleCsvLoader().parse(file,
+                (make, model, year, color) -> vehicles.add(new Vehicle(make, model, year, color)));
+        return vehicles;
+    }
+
+    /**
+     * Loads every vehicle in {@code file} straight into a columnar store,
+     * without creating a {@link Vehicle} per row.
+     *
+     * @param file the CSV file; must not be {@code null}
+     * @return the loaded store, in file order
+     * @throws IOException if the file cannot be read or a line is malformed
+     */
+    public static VehicleColumns loadColumns(Path file) throws IOException {
+        VehicleColumns columns = new VehicleColumns();
+        new VehicleCsvLoader().parse(file, columns::add);
+        return columns;
+    }
+
+    // ── Parsing ──────────────────────────────────────────────────────────────
+
+    private void parse(Path file, RowSink sink) throws IOException {
+        if (file == null) throw new IllegalArgumentException("File must not be null.");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long pos  = 0;
+            long line = 0;
+            while (pos < size) {
+                int span = (int) Math.min(size - pos, MAX_WINDOW);
+                MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos, span);
+                boolean last = pos + span == size;
+                int lineStart = 0;
+                for (int i = 0; i < span; i++) {
+                    if (buf.get(i) == '\n') {
+                        parseLine(buf, lineStart, i, ++line, sink);
+                        lineStart = i + 1;
+                    }
+                }
+                if (last && lineStart < span) {
+                    parseLine(buf, lineStart, span, ++line, sink);
+                    lineStart = span;
+                } else if (!last && lineStart == 0) {
+                    throw new IOException("Line " + (line + 1) + " is longer than " + MAX_WINDOW + " bytes.");
+                }
+                pos += lineStart;   // remap from the start of the unfinished line
+            }
+        }
+    }
+
+    /** Parses {@code buf[start, end)} as one record. */
+    private void parseLine(MappedByteBuffer buf, int start, int end, long line, RowSink sink)
+            throws IOException {
+        if (end > start && buf.get(end - 1) == '\r') end--;
+        int field = 0;
+        int fieldStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || buf.get(i) == ',') {
+                if (field == 4) throw malformed(line, "more than four fields");
+                bounds[2 * field]     = fieldStart;
+                bounds[2 * field + 1] = i;
+                field++;
+                fieldStart = i + 1;
+            }
+        }
+        for (int f = 0; f < field; f++) trim(buf, bounds, f);
+        if (field == 1 && bounds[0] == bounds[1]) return;   // blank line
+        if (field < 3) throw malformed(line, "expected make,model,year[,color]");
+
+        int year = parseYear(buf, bounds[4], bounds[5]);
+        if (year == Integer.MIN_VALUE) {
+            if (line == 1) return;   // header
+            throw malformed(line, "year is not a number");
+        }
+        if (year > Short.MAX_VALUE) throw malformed(line, "year " + year + " is out of range");
+        Color color = field == 4 ? parseColor(buf, bounds[6], bounds[7], line) : null;
+        sink.accept(strings.intern(buf, bounds[0], bounds[1]),
+                    strings.intern(buf, bounds[2], bounds[3]),
+                    year, color);
+    }
+
+    private static void trim(MappedByteBuffer buf, int[] bounds, int field) {
+        int s = bounds[2 * field];
+        int e = bounds[2 * field + 1];
+        while (s < e && isBlank(buf.get(s)))     s++;
+        while (e > s && isBlank(buf.get(e - 1))) e--;
+        bounds[2 * field]     = s;
+        bounds[2 * field + 1] = e;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    /** @return the year, or {@link Integer#MIN_VALUE} if the field is not a number */
+    private static int parseYear(MappedByteBuffer buf, int start, int end) {
+        if (start == end || end - start > 9) return Integer.MIN_VALUE;
+        int year = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buf.get(i) - '0';
+            if (digit < 0 || digit > 9) return Integer.MIN_VALUE;
+            year = year * 10 + digit;
+        }
+        return year;
+    }
+
+    private Color parseColor(MappedByteBuffer buf, int start, int end, long line) throws IOException {
+        if (start == end) return null;
+        int hexStart = buf.get(start) == '#' ? start + 1 : start;
+        if (end - hexStart == 6) {
+            int rgb = 0;
+            boolean hex = true;
+            for (int i = hexStart; i < end && hex; i++) {
+                int d = Character.digit(buf.get(i), 16);
+                hex = d >= 0;
+                rgb = (rgb << 4) | d;
+            }
+            if (hex) return colors.intern(rgb);
+        }
+        String name = strings.intern(buf, start, end);
+        Color named = NAMED_COLORS.get(name.toLowerCase(Locale.ROOT).replace("_", ""));
+        if (named == null) throw malformed(line, "unknown color '" + name + "'");
+        return named;
+    }
+
+    private static IOException malformed(long line, String reason) {
+        return new IOException("Malformed vehicle record at line " + line + ": " + reason + ".");
+    }
+
+    /**
+     * Scrambles a hash so that similar keys land far apart (the murmur3
+     * 32-bit finalizer); linear probing needs this for byte-range hashes and
+     * for RGB values, whose low bits are just the blue channel.
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Interns strings by their UTF-8 bytes: an open-addressing table that
+     * decodes a byte range to a {@code String} only the first time it is seen.
+     */
+    private static class ByteInterner {
+        private byte[][] bytes   = new byte[256][];
+        private String[] strings = new String[256];
+        private int[]    hashes  = new int[256];
+        private int      size;
+
+        String intern(MappedByteBuffer buf, int start, int end) {
+            int hash = 1;
+            for (int i = start; i < end; i++) hash = 31 * hash + buf.get(i);
+            hash = mix(hash);
+
+            int mask = strings.length - 1;
+            int slot = hash & mask;
+            while (bytes[slot] != null) {
+                if (hashes[slot] == hash && sameBytes(bytes[slot], buf, start, end)) return strings[slot];
+                slot = (slot + 1) & mask;
+            }
+            byte[] copy = new byte[end - start];
+            buf.get(start, copy);
+            bytes[slot]   = copy;
+            strings[slot] = new String(copy, StandardCharsets.UTF_8);
+            hashes[slot]  = hash;
+            String result = strings[slot];
+            if (++size * 2 >= strings.length) resize();
+            return result;
+        }
+
+        private static boolean sameBytes(byte[] key, MappedByteBuffer buf, int start, int end) {
+            if (key.length != end - start) return false;
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != buf.get(start + i)) return false;
+            }
+            return true;
+        }
+
+        private void resize() {
+            byte[][] oldBytes   = bytes;
+            String[] oldStrings = strings;
+            int[]    oldHashes  = hashes;
+            int capacity = oldStrings.length << 1;
+            bytes   = new byte[capacity][];
+            strings = new String[capacity];
+            hashes  = new int[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldStrings.length; i++) {
+                if (oldBytes[i] == null) continue;
+                int slot = oldHashes[i] & mask;
+                while (bytes[slot] != null) slot = (slot + 1) & mask;
+                bytes[slot]   = oldBytes[i];
+                strings[slot] = oldStrings[i];
+                hashes[slot]  = oldHashes[i];
+            }
+        }
+    }
+
+    /**
+     * Interns colors by their RGB value: an open-addressing table of
+     * primitive keys, so a repeated color costs no boxing and no allocation.
+     */
+    private static class ColorTable {
+        private int[]   rgbs   = new int[64];
+        private Color[] colors = new Color[64];
+        private int     size;
+
+        Color intern(int rgb) {
+            int mask = colors.length - 1;
+            int slot = mix(rgb) & mask;
+            while (colors[slot] != null) {
+                if (rgbs[slot] == rgb) return colors[slot];
+                slot = (slot + 1) & mask;
+            }
+            Color color = new Color(rgb);
+            rgbs[slot]   = rgb;
+            colors[slot] = color;
+            if (++size * 2 >= colors.length) resize();
+            return color;
+        }
+
+        private void resize() {
+            int[]   oldRgbs   = rgbs;
+            Color[] oldColors = colors;
+            int capacity = oldColors.length << 1;
+            rgbs   = new int[capacity];
+            colors = new Color[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldColors.length; i++) {
+                if (oldColors[i] == null) continue;
+                int slot = mix(oldRgbs[i]) & mask;
+                while (colors[slot] != null) slot = (slot + 1) & mask;
+                rgbs[slot]   = oldRgbs[i];
+                colors[slot] = oldColors[i];
+            }
+        }
+    }
+}
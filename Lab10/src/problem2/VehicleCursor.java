@@ -0,0 +1,259 @@
+package problem2;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A forward-only cursor over the vehicles matching a filter, for consuming
+ * large results a page at a time.
+ *
+ * <p>Matches are found lazily as the cursor advances, and nothing is
+ * formatted until asked for: {@link #appendDescription(StringBuilder)}
+ * writes the current match straight into a caller-supplied builder, and
+ * {@link #writeTo(Writer, int)} streams lines through a single reused
+ * builder and character buffer. A UI that shows 50 rows therefore pays for 50 rows, not for
+ * the whole result.</p>
+ *
+ * <p>Cursors are obtained from {@link OlderVehiclesFilter#olderVehicles(int)}.
+ * A cursor reads its source as it goes, so the source must not change while
+ * the cursor is in use.</p>
+ *
+ * @author Ying Lu
+ */
+public abstract class VehicleCursor {
+
+    /**
+     * Advances to the next match.
+     *
+     * @return {@code true} if there is a current match, {@code false} at the end
+     */
+    public abstract boolean next();
+
+    /**
+     * Returns the current match.
+     *
+     * @return the current vehicle
+     * @throws IllegalStateException if the cursor is not on a match
+     */
+    public abstract Vehicle current();
+
+    /**
+     * Appends {@code "Make: <make>, Model: <model>, Year: <year>"} for the
+     * current match to {@code sb}, without creating intermediate strings.
+     *
+     * @param sb the builder to append to
+     * @throws IllegalStateException if the cursor is not on a match
+     */
+    public abstract void appendDescription(StringBuilder sb);
+
+    /**
+     * Returns the formatted description of the current match.
+     *
+     * @return the description
+     * @throws IllegalStateException if the cursor is not on a match
+     */
+    public String describe() {
+        StringBuilder sb = new StringBuilder(64);
+        appendDescription(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Skips up to {@code count} matches without formatting them.
+     *
+     * @param count the number of matches to skip
+     * @return the number actually skipped; less than {@code count} at the end
+     */
+    public int skip(int count) {
+        int skipped = 0;
+        while (skipped < count && next()) skipped++;
+        return skipped;
+    }
+
+    /**
+     * Returns the next {@code limit} matches as vehicle references.
+     *
+     * @param limit the maximum number of matches to return
+     * @return up to {@code limit} vehicles; empty at the end
+     */
+    public List<Vehicle> nextPage(int limit) {
+        List<Vehicle> page = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+        while (page.size() < limit && next()) page.add(current());
+        return page;
+    }
+
+    /**
+     * Writes the descriptions of the next {@code limit} matches to
+     * {@code out}, one per line. Each line is formatted into one reused
+     * {@code StringBuilder} and copied into one reused {@code char[]}, so
+     * no {@code String} is created per line.
+     *
+     * @param out   the destination; must not be {@code null}
+     * @param limit the maximum number of lines to write
+     * @return the number of lines written
+     * @throws IOException if writing fails
+     */
+    public int writeTo(Writer out, int limit) throws IOException {
+        StringBuilder line = new StringBuilder(64);
+        char[] buf = new char[64];
+        String separator = System.lineSeparator();
+        int written = 0;
+        while (written < limit && next()) {
+            line.setLength(0);
+            appendDescription(line);
+            line.append(separator);
+            int length = line.length();
+            if (buf.length < length) buf = new char[Math.max(length, buf.length * 2)];
+            line.getChars(0, length, buf, 0);
+            out.write(buf, 0, length);
+            written++;
+        }
+        return written;
+    }
+
+    // ── Implementations ──────────────────────────────────────────────────────
+
+    /** Walks a list, stopping at vehicles made before a cutoff year. */
+    static class ListCursor extends VehicleCursor {
+        private final List<Vehicle> vehicles;
+        private final int           cutoffYear;
+        private int     index = -1;
+        private Vehicle current;
+
+        ListCursor(List<Vehicle> vehicles, int cutoffYear) {
+            this.vehicles   = vehicles;
+            this.cutoffYear = cutoffYear;
+        }
+
+        @Override
+        public boolean next() {
+            while (++index < vehicles.size()) {
+                Vehicle v = vehicles.get(index);
+                if (v.getYear() < cutoffYear) {
+                    current = v;
+                    return true;
+                }
+            }
+            current = null;
+            return false;
+        }
+
+        @Override
+        public Vehicle current() {
+            if (current == null) throw new IllegalStateException("Cursor is not on a match.");
+            return current;
+        }
+
+        @Override
+        public void appendDescription(StringBuilder sb) {
+            Vehicle v = current();
+            sb.append("Make: ").append(v.getMake())
+              .append(", Model: ").append(v.getModel())
+              .append(", Year: ").append(v.getYear().intValue());
+        }
+    }
+
+    /**
+     * Walks year buckets of a {@link YearIndex} in order. Every vehicle in
+     * them matches, so nothing is tested and {@link #skip} steps over whole
+     * buckets.
+     */
+    static class BucketCursor extends VehicleCursor {
+        private final List<List<Vehicle>> buckets;
+        private int     bucket;
+        private int     index = -1;
+        private Vehicle current;
+
+        BucketCursor(List<List<Vehicle>> buckets) {
+            this.buckets = buckets;
+        }
+
+        @Override
+        public boolean next() {
+            while (bucket < buckets.size()) {
+                if (++index < buckets.get(bucket).size()) {
+                    current = buckets.get(bucket).get(index);
+                    return true;
+                }
+                bucket++;
+                index = -1;
+            }
+            current = null;
+            return false;
+        }
+
+        @Override
+        public int skip(int count) {
+            int skipped = 0;
+            while (skipped < count && bucket < buckets.size()) {
+                int left = buckets.get(bucket).size() - index - 1;
+                // a skip that ends on a bucket's last vehicle stays on it, like next() would
+                if (count - skipped <= left) {
+                    index  += count - skipped;
+                    skipped = count;
+                } else {
+                    skipped += left;
+                    bucket++;
+                    index = -1;
+                }
+            }
+            current = index >= 0 && bucket < buckets.size() ? buckets.get(bucket).get(index) : null;
+            return skipped;
+        }
+
+        @Override
+        public Vehicle current() {
+            if (current == null) throw new IllegalStateException("Cursor is not on a match.");
+            return current;
+        }
+
+        @Override
+        public void appendDescription(StringBuilder sb) {
+            Vehicle v = current();
+            sb.append("Make: ").append(v.getMake())
+              .append(", Model: ").append(v.getModel())
+              .append(", Year: ").append(v.getYear().intValue());
+        }
+    }
+
+    /** Walks the year column of a {@link VehicleColumns} store. */
+    static class ColumnCursor extends VehicleCursor {
+        private final VehicleColumns columns;
+        private final int            cutoffYear;
+        private int row = -1;
+        private boolean onMatch;
+
+        ColumnCursor(VehicleColumns columns, int cutoffYear) {
+            this.columns    = columns;
+            this.cutoffYear = cutoffYear;
+        }
+
+        @Override
+        public boolean next() {
+            row = columns.nextRowBefore(cutoffYear, row + 1);
+            onMatch = row >= 0;
+            if (!onMatch) row = columns.size();
+            return onMatch;
+        }
+
+        @Override
+        public Vehicle current() {
+            checkOnMatch();
+            return columns.get(row);
+        }
+
+        @Override
+        public void appendDescription(StringBuilder sb) {
+            checkOnMatch();
+            sb.append("Make: ").append(columns.make(row))
+              .append(", Model: ").append(columns.model(row))
+              .append(", Year: ").append(columns.year(row));
+        }
+
+        private void checkOnMatch() {
+            if (!onMatch) throw new IllegalStateException("Cursor is not on a match.");
+        }
+    }
+}
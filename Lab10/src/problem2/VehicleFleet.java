@@ -0,0 +1,157 @@
+package problem2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * An observable collection of vehicles that notifies
+ * {@link VehicleFleetListener}s of every addition, removal and update.
+ *
+ * <p>{@link Vehicle} is immutable, so an update is modelled as replacing
+ * one vehicle with another in the same position. {@link Vehicle#equals}
+ * compares only the make, so the fleet tracks vehicles by identity: each
+ * vehicle object may be in the fleet at most once, and {@link #remove} and
+ * {@link #replace} find the exact object passed in. {@link #vehicles()}
+ * is a read-only view in fleet order, suitable for
+ * {@link OlderVehiclesFilter#OlderVehiclesFilter(List)}.</p>
+ *
+ * <p>An identity map keeps each vehicle's position, so every change costs
+ * {@code O(1)}. Fleet order is insertion order until a vehicle is removed:
+ * like {@link YearIndex}, removal moves the last vehicle into the gap
+ * instead of shifting the tail.</p>
+ *
+ * <p>Instances are not thread-safe.</p>
+ *
+ * @author Ying Lu
+ */
+public class VehicleFleet {
+
+    private final List<Vehicle> vehicles = new ArrayList<>();
+    private final Map<Vehicle, Integer> positions = new IdentityHashMap<>();
+    private final List<VehicleFleetListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Constructs an empty fleet. */
+    public VehicleFleet() { }
+
+    /**
+     * Constructs a fleet holding every vehicle in {@code vehicles}, in order.
+     *
+     * @param vehicles the initial vehicles; must not be {@code null}
+     * @throws IllegalArgumentException if {@code vehicles} is {@code null},
+     *                                  or holds a {@code null} or repeated vehicle
+     */
+    public VehicleFleet(Collection<Vehicle> vehicles) {
+        if (vehicles == null) throw new IllegalArgumentException("Vehicles must not be null.");
+        for (Vehicle v : vehicles) add(v);
+    }
+
+    // ── Listeners ────────────────────────────────────────────────────────────
+
+    /**
+     * Registers a listener for future changes.
+     *
+     * @param listener the listener; must not be {@code null}
+     */
+    public void addListener(VehicleFleetListener listener) {
+        if (listener == null) throw new IllegalArgumentException("Listener must not be null.");
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener the listener
+     * @return {@code true} if it was registered
+     */
+    public boolean removeListener(VehicleFleetListener listener) {
+        return listeners.remove(listener);
+    }
+
+    // ── Updates ──────────────────────────────────────────────────────────────
+
+    /**
+     * Adds a vehicle at the end of the fleet.
+     *
+     * @param vehicle the vehicle; must not be {@code null} or already in the fleet
+     * @throws IllegalArgumentException if {@code vehicle} is {@code null} or
+     *                                  already in the fleet
+     */
+    public void add(Vehicle vehicle) {
+        admit(vehicle, vehicles.size());
+        vehicles.add(vehicle);
+        for (VehicleFleetListener l : listeners) l.vehicleAdded(vehicle);
+    }
+
+    /**
+     * Removes a vehicle, matched by identity, and moves the last vehicle of
+     * the fleet into its position.
+     *
+     * @param vehicle the vehicle to remove
+     * @return {@code true} if it was in the fleet
+     */
+    public boolean remove(Vehicle vehicle) {
+        Integer position = positions.remove(vehicle);
+        if (position == null) return false;
+        Vehicle last = vehicles.remove(vehicles.size() - 1);
+        if (last != vehicle) {
+            vehicles.set(position, last);
+            positions.put(last, position);
+        }
+        for (VehicleFleetListener l : listeners) l.vehicleRemoved(vehicle);
+        return true;
+    }
+
+    /**
+     * Replaces {@code previous}, matched by identity, with {@code replacement}
+     * in the same position.
+     *
+     * @param previous    the vehicle to replace
+     * @param replacement the updated vehicle; must not be {@code null} or
+     *                    already in the fleet
+     * @return {@code true} if {@code previous} was in the fleet
+     * @throws IllegalArgumentException if {@code replacement} is {@code null}
+     *                                  or already in the fleet
+     */
+    public boolean replace(Vehicle previous, Vehicle replacement) {
+        Integer position = positions.get(previous);
+        if (position == null) return false;
+        if (previous == replacement) return true;
+        admit(replacement, position);
+        positions.remove(previous);
+        vehicles.set(position, replacement);
+        for (VehicleFleetListener l : listeners) l.vehicleReplaced(previous, replacement);
+        return true;
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────
+
+    /** @return a read-only view of the fleet, in fleet order */
+    public List<Vehicle> vehicles() {
+        return Collections.unmodifiableList(vehicles);
+    }
+
+    /**
+     * @param vehicle the vehicle to look for
+     * @return {@code true} if this exact vehicle object is in the fleet
+     */
+    public boolean contains(Vehicle vehicle) {
+        return positions.containsKey(vehicle);
+    }
+
+    /** @return the number of vehicles in the fleet */
+    public int size() { return vehicles.size(); }
+
+    // ── Internals ────────────────────────────────────────────────────────────
+
+    /** Records {@code vehicle} at {@code position}, rejecting {@code null} and vehicles already present. */
+    private void admit(Vehicle vehicle, int position) {
+        if (vehicle == null) throw new IllegalArgumentException("Vehicle must not be null.");
+        if (positions.putIfAbsent(vehicle, position) != null)
+            throw new IllegalArgumentException("Vehicle is already in the fleet.");
+    }
+}
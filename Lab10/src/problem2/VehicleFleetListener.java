@@ -0,0 +1,34 @@
+package problem2;
+
+/**
+ * Receives change events from a {@link VehicleFleet}.
+ *
+ * <p>Each method is called after the fleet has changed, on the thread that
+ * changed it.</p>
+ *
+ * @author Ying Lu
+ */
+public interface VehicleFleetListener {
+
+    /**
+     * Called after a vehicle is added to the fleet.
+     *
+     * @param vehicle the added vehicle
+     */
+    void vehicleAdded(Vehicle vehicle);
+
+    /**
+     * Called after a vehicle is removed from the fleet.
+     *
+     * @param vehicle the removed vehicle
+     */
+    void vehicleRemoved(Vehicle vehicle);
+
+    /**
+     * Called after a vehicle is replaced by an updated one in the same position.
+     *
+     * @param previous    the vehicle that was replaced
+     * @param replacement the vehicle now in its place
+     */
+    void vehicleReplaced(Vehicle previous, Vehicle replacement);
+}
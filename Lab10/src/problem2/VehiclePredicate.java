@@ -0,0 +1,99 @@
+package problem2;
+
+import java.awt.Color;
+import java.util.BitSet;
+
+/**
+ * A condition on {@link Vehicle} fields, evaluated by a
+ * {@link VehicleQueryEngine} as a bitmap over the rows of a
+ * {@link VehicleColumns} store.
+ *
+ * <p>Predicates are created with the static factories and combined by
+ * passing several of them to {@link VehicleQueryEngine#find}, which
+ * requires all of them to hold. Each predicate can estimate how many rows
+ * it matches from the engine's indexes, without touching the rows, so the
+ * engine can evaluate the most selective one first.</p>
+ *
+ * @author Ying Lu
+ */
+public abstract class VehiclePredicate {
+
+    /**
+     * Estimates how many rows match, using the engine's indexes only.
+     *
+     * @param engine the engine holding the indexes
+     * @return the estimated number of matching rows
+     */
+    abstract long estimate(VehicleQueryEngine engine);
+
+    /**
+     * Returns the matching rows as a new bitmap the caller may modify.
+     *
+     * @param engine the engine holding the indexes
+     * @return a bitmap with one bit set per matching row
+     */
+    abstract BitSet evaluate(VehicleQueryEngine engine);
+
+    // ── Factories ────────────────────────────────────────────────────────────
+
+    /**
+     * @param make the make to match exactly; {@code null} matches vehicles without a make
+     * @return a predicate matching vehicles of that make
+     */
+    public static VehiclePredicate makeIs(String make) {
+        return new VehiclePredicate() {
+            @Override long   estimate(VehicleQueryEngine e) { return e.countMake(make); }
+            @Override BitSet evaluate(VehicleQueryEngine e) { return e.makeBitmap(make); }
+            @Override public String toString() { return "make = " + make; }
+        };
+    }
+
+    /**
+     * @param fromYear the first year included
+     * @param toYear   the last year included
+     * @return a predicate matching vehicles made in that range
+     */
+    public static VehiclePredicate yearBetween(int fromYear, int toYear) {
+        return new VehiclePredicate() {
+            @Override long   estimate(VehicleQueryEngine e) { return e.countYears(fromYear, toYear); }
+            @Override BitSet evaluate(VehicleQueryEngine e) { return e.yearBitmap(fromYear, toYear); }
+            @Override public String toString() { return "year in [" + fromYear + ", " + toYear + "]"; }
+        };
+    }
+
+    /**
+     * @param year the exclusive upper bound
+     * @return a predicate matching vehicles made strictly before {@code year};
+     *         it matches nothing when {@code year} is {@link Integer#MIN_VALUE}
+     */
+    public static VehiclePredicate yearBefore(int year) {
+        if (year == Integer.MIN_VALUE) {
+            return new VehiclePredicate() {
+                @Override long   estimate(VehicleQueryEngine e) { return 0; }
+                @Override BitSet evaluate(VehicleQueryEngine e) { return new BitSet(); }
+                @Override public String toString() { return "year before " + year; }
+            };
+        }
+        return yearBetween(Integer.MIN_VALUE, year - 1);
+    }
+
+    /**
+     * Matches vehicles whose color lies within {@code maxDistance} of
+     * {@code color}, measured as Euclidean distance in RGB space (alpha is
+     * ignored). Vehicles without a color never match.
+     *
+     * @param color       the reference color; must not be {@code null}
+     * @param maxDistance the largest distance that still matches
+     * @return a predicate matching vehicles of a similar color
+     * @throws IllegalArgumentException if {@code color} is {@code null}
+     */
+    public static VehiclePredicate colorNear(Color color, double maxDistance) {
+        if (color == null) throw new IllegalArgumentException("Color must not be null.");
+        int rgb = color.getRGB();
+        return new VehiclePredicate() {
+            @Override long   estimate(VehicleQueryEngine e) { return e.countColorsNear(rgb, maxDistance); }
+            @Override BitSet evaluate(VehicleQueryEngine e) { return e.colorBitmap(rgb, maxDistance); }
+            @Override public String toString() { return "color near " + color + " within " + maxDistance; }
+        };
+    }
+}
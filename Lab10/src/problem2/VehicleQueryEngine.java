@@ -0,0 +1,340 @@
+package problem2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+/**
+ * Answers conjunctive queries such as "make = Toyota AND year in
+ * [1990, 1998] AND color near red" over a {@link VehicleColumns} store —
+ * the general form of {@link OlderVehiclesFilter}'s single year test.
+ *
+ * <p>The engine keeps an index of rows per make, per year and per color
+ * cell. Each list of rows is stored as a sorted {@code int[]} while it is
+ * sparse and switches to a bitmap once that takes less memory, so a fleet
+ * with thousands of makes or colors costs about 4 bytes per row and index
+ * instead of one bit per row for every distinct value. Colors are grouped
+ * into 4096 cells of 16&times;16&times;16 RGB values: a color
+ * query visits only the cells its sphere reaches, takes whole cells that
+ * lie inside it, and checks the exact color of rows only in cells the
+ * sphere cuts through.</p>
+ *
+ * <p>A query first asks each {@link VehiclePredicate} how many rows it
+ * would match, which the indexes answer without touching the rows, then
+ * intersects the predicates' bitmaps from the most selective to the least,
+ * stopping as soon as the intersection is empty. Rows are never evaluated
+ * one by one against a lambda.</p>
+ *
+ * <p>The store may keep growing after the engine is built; rows appended
+ * since the last query are indexed at the start of the next one. Instances
+ * are not thread-safe.</p>
+ *
+ * @author Ying Lu
+ */
+public class VehicleQueryEngine {
+
+    /** Bits kept per color channel when grouping colors into cells. */
+    private static final int CELL_BITS = 4;
+
+    /** Channel values per cell side. */
+    private static final int CELL_SIDE = 1 << (8 - CELL_BITS);
+
+    /** Number of color cells. */
+    private static final int CELLS = 1 << (3 * CELL_BITS);
+
+    /** The indexed store. */
+    private final VehicleColumns columns;
+
+    /** Rows per make code; rows without a make are in {@link #nullMakeRows}. */
+    private final List<Rows> makeRows     = new ArrayList<>();
+    private final Rows       nullMakeRows = new Rows();
+
+    /** Rows per year, in year order. */
+    private final TreeMap<Integer, Rows> yearRows = new TreeMap<>();
+
+    /** Rows per color cell; rows without a color are not indexed. */
+    private final Rows[] colorCells = new Rows[CELLS];
+
+    /** Number of rows indexed so far. */
+    private int indexedRows;
+
+    /**
+     * Constructs an engine over {@code columns} and indexes its rows.
+     *
+     * @param columns the store to query; must not be {@code null}
+     * @throws IllegalArgumentException if {@code columns} is {@code null}
+     */
+    public VehicleQueryEngine(VehicleColumns columns) {
+        if (columns == null) throw new IllegalArgumentException("Columns must not be null.");
+        this.columns = columns;
+        refresh();
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────
+
+    /**
+     * Returns the rows matching every predicate, in row order.
+     *
+     * @param predicates the conditions to combine with AND; none selects every row
+     * @return the matching row indices
+     */
+    public int[] find(VehiclePredicate... predicates) {
+        return match(predicates).stream().toArray();
+    }
+
+    /**
+     * Returns how many rows match every predicate.
+     *
+     * @param predicates the conditions to combine with AND
+     * @return the number of matching rows
+     */
+    public int count(VehiclePredicate... predicates) {
+        return match(predicates).cardinality();
+    }
+
+    /**
+     * Returns the vehicles matching every predicate, in row order.
+     *
+     * @param predicates the conditions to combine with AND
+     * @return the matching vehicles, materialized from the store
+     */
+    public List<Vehicle> vehicles(VehiclePredicate... predicates) {
+        BitSet hits = match(predicates);
+        List<Vehicle> result = new ArrayList<>(hits.cardinality());
+        for (int row = hits.nextSetBit(0); row >= 0; row = hits.nextSetBit(row + 1)) {
+            result.add(columns.get(row));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the formatted descriptions of the vehicles matching every
+     * predicate, in row order, in the format of
+     * {@link OlderVehiclesFilter#filterOlderVehicles()}.
+     *
+     * @param predicates the conditions to combine with AND
+     * @return the formatted descriptions
+     */
+    public List<String> describe(VehiclePredicate... predicates) {
+        BitSet hits = match(predicates);
+        List<String> result = new ArrayList<>(hits.cardinality());
+        for (int row = hits.nextSetBit(0); row >= 0; row = hits.nextSetBit(row + 1)) {
+            result.add(columns.describe(row));
+        }
+        return result;
+    }
+
+    /** Intersects the predicates' bitmaps, most selective first. */
+    private BitSet match(VehiclePredicate... predicates) {
+        refresh();
+        if (predicates.length == 0) {
+            BitSet all = new BitSet(indexedRows);
+            all.set(0, indexedRows);
+            return all;
+        }
+
+        VehiclePredicate[] ordered = predicates.clone();
+        long[] estimates = new long[ordered.length];
+        Integer[] order = new Integer[ordered.length];
+        for (int i = 0; i < ordered.length; i++) {
+            estimates[i] = ordered[i].estimate(this);
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> estimates[i]));
+
+        BitSet result = ordered[order[0]].evaluate(this);
+        for (int i = 1; i < order.length && !result.isEmpty(); i++) {
+            result.and(ordered[order[i]].evaluate(this));
+        }
+        return result;
+    }
+
+    // ── Index access for predicates ──────────────────────────────────────────
+
+    /** @return the rows of {@code make}; {@code null} if no row has it */
+    private Rows rowsOfMake(String make) {
+        int code = columns.codeOfMake(make);
+        if (code == VehicleColumns.NULL_CODE) return nullMakeRows;
+        return code >= 0 && code < makeRows.size() ? makeRows.get(code) : null;
+    }
+
+    /** @return the number of rows of {@code make} */
+    long countMake(String make) {
+        Rows rows = rowsOfMake(make);
+        return rows == null ? 0 : rows.size;
+    }
+
+    /** @return a new bitmap of the rows of {@code make} */
+    BitSet makeBitmap(String make) {
+        BitSet result = new BitSet(indexedRows);
+        Rows rows = rowsOfMake(make);
+        if (rows != null) rows.orInto(result);
+        return result;
+    }
+
+    /** @return the number of rows made in {@code [fromYear, toYear]} */
+    long countYears(int fromYear, int toYear) {
+        if (fromYear > toYear) return 0;
+        long count = 0;
+        for (Rows rows : yearRows.subMap(fromYear, true, toYear, true).values()) count += rows.size;
+        return count;
+    }
+
+    /** @return a new bitmap of the rows made in {@code [fromYear, toYear]} */
+    BitSet yearBitmap(int fromYear, int toYear) {
+        BitSet result = new BitSet(indexedRows);
+        if (fromYear > toYear) return result;
+        for (Rows rows : yearRows.subMap(fromYear, true, toYear, true).values()) rows.orInto(result);
+        return result;
+    }
+
+    /**
+     * @return an upper bound on the number of rows whose color is within
+     *         {@code maxDistance} of {@code rgb}: the rows of every cell the
+     *         sphere reaches
+     */
+    long countColorsNear(int rgb, double maxDistance) {
+        long[] count = new long[1];
+        visitCells(rgb, maxDistance, (cell, inside) -> count[0] += cell.size);
+        return count[0];
+    }
+
+    /** @return a new bitmap of the rows whose color is within {@code maxDistance} of {@code rgb} */
+    BitSet colorBitmap(int rgb, double maxDistance) {
+        BitSet result = new BitSet(indexedRows);
+        visitCells(rgb, maxDistance, (cell, inside) -> {
+            if (inside) cell.orInto(result);
+            else cell.orInto(result, row -> near(columns.rgb(row), rgb, maxDistance));
+        });
+        return result;
+    }
+
+    /** Receives a color cell and whether it lies wholly inside the query sphere. */
+    private interface CellVisitor {
+        void visit(Rows cell, boolean inside);
+    }
+
+    /**
+     * Calls {@code visitor} for every non-empty cell within {@code maxDistance}
+     * of {@code rgb}; none when {@code maxDistance} is negative or NaN.
+     */
+    private void visitCells(int rgb, double maxDistance, CellVisitor visitor) {
+        if (!(maxDistance >= 0)) return;
+        double limit = maxDistance * maxDistance;
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8)  & 0xFF;
+        int b = rgb & 0xFF;
+        int r0 = cellOf(r - maxDistance), r1 = cellOf(r + maxDistance);
+        int g0 = cellOf(g - maxDistance), g1 = cellOf(g + maxDistance);
+        int b0 = cellOf(b - maxDistance), b1 = cellOf(b + maxDistance);
+        for (int cr = r0; cr <= r1; cr++) {
+            for (int cg = g0; cg <= g1; cg++) {
+                for (int cb = b0; cb <= b1; cb++) {
+                    Rows cell = colorCells[(cr << (2 * CELL_BITS)) | (cg << CELL_BITS) | cb];
+                    if (cell == null) continue;
+                    double nearest  = gap(r, cr, false) + gap(g, cg, false) + gap(b, cb, false);
+                    if (nearest > limit) continue;
+                    double farthest = gap(r, cr, true) + gap(g, cg, true) + gap(b, cb, true);
+                    visitor.visit(cell, farthest <= limit);
+                }
+            }
+        }
+    }
+
+    /** @return the cell coordinate of a channel value, clamped to the channel range */
+    private static int cellOf(double channel) {
+        return (int) Math.max(0, Math.min(255, channel)) / CELL_SIDE;
+    }
+
+    /** @return the squared distance from {@code channel} to the nearest or farthest value of a cell side */
+    private static double gap(int channel, int cell, boolean farthest) {
+        int lo = cell * CELL_SIDE;
+        int hi = lo + CELL_SIDE - 1;
+        int d  = farthest ? Math.max(channel - lo, hi - channel)
+                          : channel < lo ? lo - channel : channel > hi ? channel - hi : 0;
+        return (double) d * d;
+    }
+
+    private static boolean near(int a, int b, double maxDistance) {
+        int dr = ((a >> 16) & 0xFF) - ((b >> 16) & 0xFF);
+        int dg = ((a >> 8)  & 0xFF) - ((b >> 8)  & 0xFF);
+        int db = (a & 0xFF)         - (b & 0xFF);
+        return dr * dr + dg * dg + db * db <= maxDistance * maxDistance;
+    }
+
+    // ── Indexing ─────────────────────────────────────────────────────────────
+
+    /** Indexes rows appended to the store since the last call. */
+    private void refresh() {
+        int size = columns.size();
+        for (int row = indexedRows; row < size; row++) {
+            int make = columns.makeCode(row);
+            if (make == VehicleColumns.NULL_CODE) {
+                nullMakeRows.add(row);
+            } else {
+                while (makeRows.size() <= make) makeRows.add(new Rows());
+                makeRows.get(make).add(row);
+            }
+            yearRows.computeIfAbsent(columns.year(row), y -> new Rows()).add(row);
+            if (columns.hasColor(row)) {
+                int rgb  = columns.rgb(row);
+                int cell = ((rgb >> 16 & 0xFF) / CELL_SIDE << (2 * CELL_BITS))
+                         | ((rgb >> 8 & 0xFF) / CELL_SIDE << CELL_BITS)
+                         | ((rgb & 0xFF) / CELL_SIDE);
+                if (colorCells[cell] == null) colorCells[cell] = new Rows();
+                colorCells[cell].add(row);
+            }
+        }
+        indexedRows = size;
+    }
+
+    /**
+     * The rows holding one indexed value, in row order: a sorted
+     * {@code int[]} while sparse, a bitmap once the bitmap is the smaller.
+     */
+    private static class Rows {
+        private int[]  list = new int[2];
+        private BitSet bits;
+        private int    size;
+
+        /** Appends {@code row}, which must be greater than every row already added. */
+        void add(int row) {
+            if (bits == null && size == list.length) {
+                // a bitmap up to this row takes row / 8 bytes; a doubled list takes 8 bytes per row
+                if ((long) size * 64 >= row) {
+                    bits = new BitSet(row + 1);
+                    for (int i = 0; i < size; i++) bits.set(list[i]);
+                    list = null;
+                } else {
+                    list = Arrays.copyOf(list, size * 2);
+                }
+            }
+            if (bits != null) bits.set(row);
+            else list[size] = row;
+            size++;
+        }
+
+        /** Sets the bit of every row in {@code target}. */
+        void orInto(BitSet target) {
+            if (bits != null) target.or(bits);
+            else for (int i = 0; i < size; i++) target.set(list[i]);
+        }
+
+        /** Sets the bit of every row accepted by {@code keep} in {@code target}. */
+        void orInto(BitSet target, IntPredicate keep) {
+            if (bits != null) {
+                for (int row = bits.nextSetBit(0); row >= 0; row = bits.nextSetBit(row + 1)) {
+                    if (keep.test(row)) target.set(row);
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (keep.test(list[i])) target.set(list[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package problem2;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A registry of vehicles grouped by make.
+ *
+ * <p>{@link Vehicle#equals} and {@link Vehicle#hashCode} look only at the
+ * make, so a {@code HashSet<Vehicle>} keeps one vehicle per make, and a
+ * {@code HashMap<Vehicle, ...>} chains every Toyota into the same bucket.
+ * The registry works with that equality instead: the make itself is the
+ * hash key, and each make maps to a compact group holding</p>
+ * <ul>
+ *   <li>every vehicle of that make in a plain array, in insertion order</li>
+ *   <li>a year histogram: one {@code int} counter per year, offset by the
+ *       earliest year of the make; as in {@link YearIndex}, a make's years
+ *       may be at most {@link YearIndex#MAX_SPAN} years apart</li>
+ * </ul>
+ *
+ * <p>"All vehicles of make X" is therefore one hash lookup that returns a
+ * view of the array, and per-make year counts never touch the vehicles.
+ * {@link #contains(Vehicle)} and {@link #distinct()} follow {@code equals}:
+ * a vehicle is contained when any vehicle of its make is registered, and
+ * the distinct vehicles are one per make, as a {@code HashSet} would keep.
+ * Removal, like in {@link YearIndex}, is by identity. Instances are not
+ * thread-safe.</p>
+ *
+ * @author Ying Lu
+ */
+public class VehicleRegistry {
+
+    private final Map<String, MakeGroup> groups = new HashMap<>();
+    private int size;
+
+    /** Constructs an empty registry. */
+    public VehicleRegistry() { }
+
+    /**
+     * Constructs a registry holding every vehicle in {@code vehicles}.
+     *
+     * @param vehicles the vehicles to register; must not be {@code null}
+     * @throws IllegalArgumentException if {@code vehicles} is {@code null},
+     *                                  contains a vehicle without a year, or
+     *                                  holds a make whose years span more than
+     *                                  {@link YearIndex#MAX_SPAN} years
+     */
+    public VehicleRegistry(Collection<Vehicle> vehicles) {
+        if (vehicles == null) throw new IllegalArgumentException("Vehicles must not be null.");
+        for (Vehicle v : vehicles) add(v);
+    }
+
+    // ── Updates ──────────────────────────────────────────────────────────────
+
+    /**
+     * Registers a vehicle under its make.
+     *
+     * @param vehicle the vehicle; must not be {@code null} and must have a year
+     * @throws IllegalArgumentException if {@code vehicle} or its year is
+     *                                  {@code null}, or if its make's years would
+     *                                  then span more than {@link YearIndex#MAX_SPAN} years
+     */
+    public void add(Vehicle vehicle) {
+        if (vehicle == null) throw new IllegalArgumentException("Vehicle must not be null.");
+        if (vehicle.getYear() == null) throw new IllegalArgumentException("Vehicle year must not be null.");
+        groups.computeIfAbsent(vehicle.getMake(), make -> new MakeGroup()).add(vehicle);
+        size++;
+    }
+
+    /**
+     * Removes one occurrence of {@code vehicle}, matched by identity.
+     *
+     * @param vehicle the vehicle to remove
+     * @return {@code true} if it was registered
+     */
+    public boolean remove(Vehicle vehicle) {
+        if (vehicle == null) return false;
+        MakeGroup group = groups.get(vehicle.getMake());
+        if (group == null || !group.remove(vehicle)) return false;
+        if (group.size == 0) groups.remove(vehicle.getMake());
+        size--;
+        return true;
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────
+
+    /**
+     * Returns every registered vehicle of {@code make}.
+     *
+     * @param make the make; may be {@code null}
+     * @return a read-only view of the make's vehicles, which reflects later
+     *         changes for as long as the make stays registered; empty if the
+     *         make is unknown
+     */
+    public List<Vehicle> ofMake(String make) {
+        MakeGroup group = groups.get(make);
+        return group == null ? Collections.emptyList() : group.view;
+    }
+
+    /**
+     * @param make the make; may be {@code null}
+     * @return how many vehicles of {@code make} are registered
+     */
+    public int countOfMake(String make) {
+        MakeGroup group = groups.get(make);
+        return group == null ? 0 : group.size;
+    }
+
+    /**
+     * Returns how many vehicles of {@code make} were made from
+     * {@code fromYear} to {@code toYear}, both inclusive, from the make's
+     * year histogram.
+     *
+     * @param make     the make; may be {@code null}
+     * @param fromYear the first year included
+     * @param toYear   the last year included
+     * @return the number of matching vehicles
+     */
+    public int countOfMake(String make, int fromYear, int toYear) {
+        MakeGroup group = groups.get(make);
+        if (group == null) return 0;
+        int length = group.yearCounts.length;
+        // clamp while still in long, so extreme years cannot wrap when narrowed
+        int from = (int) Math.max(0, Math.min(length, (long) fromYear - group.firstYear));
+        int to   = (int) Math.max(-1, Math.min(length - 1, (long) toYear - group.firstYear));
+        if (from > to) return 0;
+        int count = 0;
+        for (int i = from; i <= to; i++) count += group.yearCounts[i];
+        return count;
+    }
+
+    /**
+     * Returns the year histogram of {@code make}.
+     *
+     * @param make the make; may be {@code null}
+     * @return year to number of vehicles, for years with at least one vehicle,
+     *         earliest first; empty if the make is unknown
+     */
+    public SortedMap<Integer, Integer> yearHistogram(String make) {
+        SortedMap<Integer, Integer> histogram = new TreeMap<>();
+        MakeGroup group = groups.get(make);
+        if (group == null) return histogram;
+        for (int i = 0; i < group.yearCounts.length; i++) {
+            if (group.yearCounts[i] > 0) histogram.put(group.firstYear + i, group.yearCounts[i]);
+        }
+        return histogram;
+    }
+
+    /**
+     * Tests whether a vehicle equal to {@code vehicle} — that is, one of the
+     * same make — is registered.
+     *
+     * @param vehicle the vehicle to look for
+     * @return {@code true} if its make is registered
+     */
+    public boolean contains(Vehicle vehicle) {
+        return vehicle != null && groups.containsKey(vehicle.getMake());
+    }
+
+    /**
+     * Returns one vehicle per make — the vehicles a {@code HashSet<Vehicle>}
+     * of the registered vehicles would keep under {@link Vehicle#equals}.
+     *
+     * @return the first remaining vehicle of each make
+     */
+    public List<Vehicle> distinct() {
+        List<Vehicle> result = new ArrayList<>(groups.size());
+        for (MakeGroup group : groups.values()) result.add(group.vehicles[0]);
+        return result;
+    }
+
+    /** @return a read-only view of the registered makes */
+    public Set<String> makes() {
+        return Collections.unmodifiableSet(groups.keySet());
+    }
+
+    /** @return the total number of registered vehicles */
+    public int size() { return size; }
+
+    // ── Internals ────────────────────────────────────────────────────────────
+
+    /** The vehicles and year histogram of one make. */
+    private static class MakeGroup {
+        private Vehicle[] vehicles = new Vehicle[4];
+        private int       size;
+
+        /** Vehicles per year; {@code yearCounts[i]} counts year {@code firstYear + i}. */
+        private int[] yearCounts = new int[0];
+        private int   firstYear;
+
+        private final List<Vehicle> view = new AbstractList<Vehicle>() {
+            @Override
+            public Vehicle get(int index) {
+                if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+                return vehicles[index];
+            }
+
+            @Override
+            public int size() { return size; }
+        };
+
+        void add(Vehicle vehicle) {
+            int year = vehicle.getYear();
+            cover(year);
+            yearCounts[year - firstYear]++;
+            if (size == vehicles.length) vehicles = Arrays.copyOf(vehicles, size * 2);
+            vehicles[size++] = vehicle;
+        }
+
+        boolean remove(Vehicle vehicle) {
+            for (int i = 0; i < size; i++) {
+                if (vehicles[i] == vehicle) {
+                    System.arraycopy(vehicles, i + 1, vehicles, i, size - i - 1);
+                    vehicles[--size] = null;
+                    yearCounts[vehicle.getYear() - firstYear]--;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** Widens the histogram so that {@code year} has a counter. */
+        private void cover(int year) {
+            if (yearCounts.length > 0) {
+                long first = Math.min(firstYear, year);
+                long last  = Math.max(firstYear + yearCounts.length - 1L, year);
+                if (last - first >= YearIndex.MAX_SPAN) {
+                    throw new IllegalArgumentException("Year " + year + " would make the histogram span more than "
+                            + YearIndex.MAX_SPAN + " years.");
+                }
+            }
+            if (yearCounts.length == 0) {
+                firstYear  = year;
+                yearCounts = new int[1];
+            } else if (year < firstYear) {
+                int[] widened = new int[yearCounts.length + (firstYear - year)];
+                System.arraycopy(yearCounts, 0, widened, firstYear - year, yearCounts.length);
+                yearCounts = widened;
+                firstYear  = year;
+            } else if (year - firstYear >= yearCounts.length) {
+                yearCounts = Arrays.copyOf(yearCounts, year - firstYear + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package problem2;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary snapshots of vehicle fleets, for loading a fleet at
+ * startup without re-parsing a text source.
+ *
+ * <p>A snapshot file has this layout, all integers big-endian:</p>
+ * <pre>
+ *   magic        4 bytes   "VFS1"
+ *   rows         int       number of vehicles
+ *   makes        int       number of distinct makes
+ *   models       int       number of distinct models
+ *   dictionary   per make, then per model: int UTF-8 length, then the bytes
+ *   make codes   int[rows]     index into the makes, -1 for null
+ *   model codes  int[rows]     index into the models, -1 for null
+ *   years        short[rows]
+ *   colors       int[rows]     ARGB, 0 when the vehicle has no color
+ *   has color    byte[rows]    1 if the vehicle has a color, else 0
+ * </pre>
+ *
+ * <p>Rows are fixed-width and stored column by column, the same layout as
+ * {@link VehicleColumns}, so {@link #read(Path)} maps the file and
+ * bulk-copies each column into its array: no per-row parsing and no
+ * per-row objects. Build a filter from a snapshot with
+ * {@code new OlderVehiclesFilter(VehicleSnapshot.read(file))}.</p>
+ *
+ * @author Ying Lu
+ */
+public class VehicleSnapshot {
+
+    /** File signature: "VFS1". */
+    private static final int MAGIC = 0x56465331;
+
+    /** Bytes per row: make and model codes, year, color and color flag. */
+    private static final int ROW_BYTES = 2 * Integer.BYTES + Short.BYTES + Integer.BYTES + 1;
+
+    private VehicleSnapshot() { }
+
+    // ── Writing ──────────────────────────────────────────────────────────────
+
+    /**
+     * Writes {@code vehicles} to {@code file}, replacing it.
+     *
+     * @param vehicles the vehicles to write; must not be {@code null}, and
+     *                 every vehicle must have a year
+     * @param file     the destination; must not be {@code null}
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(List<Vehicle> vehicles, Path file) throws IOException {
+        write(VehicleColumns.of(vehicles), file);
+    }
+
+    /**
+     * Writes the rows of {@code columns} to {@code file}, replacing it.
+     *
+     * @param columns the store to write; must not be {@code null}
+     * @param file    the destination; must not be {@code null}
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(VehicleColumns columns, Path file) throws IOException {
+        if (columns == null) throw new IllegalArgumentException("Columns must not be null.");
+        if (file == null) throw new IllegalArgumentException("File must not be null.");
+        int rows = columns.size();
+        List<String> makes  = columns.makeValues();
+        List<String> models = columns.modelValues();
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(rows);
+            out.writeInt(makes.size());
+            out.writeInt(models.size());
+            for (String s : makes)  writeString(out, s);
+            for (String s : models) writeString(out, s);
+            for (int row = 0; row < rows; row++) out.writeInt(columns.makeCode(row));
+            for (int row = 0; row < rows; row++) out.writeInt(columns.modelCode(row));
+            for (int row = 0; row < rows; row++) out.writeShort(columns.year(row));
+            for (int row = 0; row < rows; row++) out.writeInt(columns.hasColor(row) ? columns.rgb(row) : 0);
+            for (int row = 0; row < rows; row++) out.writeByte(columns.hasColor(row) ? 1 : 0);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // ── Reading ──────────────────────────────────────────────────────────────
+
+    /**
+     * Reads {@code file} into a new {@link VehicleColumns} store by mapping
+     * it into memory and bulk-copying each column.
+     *
+     * @param file the snapshot; must not be {@code null}
+     * @return the stored fleet, in the order it was written
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static VehicleColumns read(Path file) throws IOException {
+        if (file == null) throw new IllegalArgumentException("File must not be null.");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new IOException(file + " is too large for a vehicle snapshot.");
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try {
+                if (buf.getInt() != MAGIC) throw new IOException(file + " is not a vehicle snapshot.");
+                int rows       = buf.getInt();
+                int makeCount  = buf.getInt();
+                int modelCount = buf.getInt();
+                if (rows < 0 || makeCount < 0 || modelCount < 0)
+                    throw new IOException("Corrupt header in " + file);
+                List<String> makes  = readStrings(buf, makeCount, file);
+                List<String> models = readStrings(buf, modelCount, file);
+                if ((long) rows * ROW_BYTES != buf.remaining())
+                    throw new IOException("Row data in " + file + " does not match its row count.");
+
+                int[]     makeCodes  = new int[rows];
+                int[]     modelCodes = new int[rows];
+                short[]   years      = new short[rows];
+                int[]     colors     = new int[rows];
+                boolean[] hasColor   = new boolean[rows];
+                buf.asIntBuffer().get(makeCodes);
+                buf.position(buf.position() + rows * Integer.BYTES);
+                buf.asIntBuffer().get(modelCodes);
+                buf.position(buf.position() + rows * Integer.BYTES);
+                buf.asShortBuffer().get(years);
+                buf.position(buf.position() + rows * Short.BYTES);
+                buf.asIntBuffer().get(colors);
+                buf.position(buf.position() + rows * Integer.BYTES);
+                for (int row = 0; row < rows; row++) hasColor[row] = buf.get() != 0;
+
+                return VehicleColumns.fromColumns(makes, models, makeCodes, modelCodes, years, colors, hasColor);
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("Corrupt vehicle snapshot " + file + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static List<String> readStrings(MappedByteBuffer buf, int count, Path file) throws IOException {
+        List<String> values = new ArrayList<>(Math.min(count, 1 << 16));
+        byte[] bytes = new byte[64];
+        for (int i = 0; i < count; i++) {
+            int length = buf.getInt();
+            if (length < 0 || length > buf.remaining()) throw new IOException("Corrupt dictionary in " + file);
+            if (bytes.length < length) bytes = new byte[Math.max(length, bytes.length * 2)];
+            buf.get(bytes, 0, length);
+            values.add(new String(bytes, 0, length, StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,207 @@
+package problem2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An index of vehicles bucketed by model year, for answering year-range
+ * queries without scanning the whole fleet.
+ *
+ * <p>Model years span only a few dozen values, so the index keeps one
+ * bucket per year in an array offset by the earliest year seen; the array
+ * widens when a vehicle outside the current range is added. A query walks
+ * the buckets in its range and copies their contents, so it costs one step
+ * per year plus one per matching vehicle — never a step per non-matching
+ * vehicle. Counts are answered from bucket sizes alone. To keep the array
+ * small, the earliest and latest indexed years may be at most
+ * {@value #MAX_SPAN} years apart.</p>
+ *
+ * <p>{@link Vehicle#equals} compares only the make, so vehicles are removed
+ * by identity rather than equality. Results are ordered by year; within a
+ * year they follow insertion order until a vehicle of that year is removed.
+ * Instances are not thread-safe.</p>
+ *
+ * @author Ying Lu
+ */
+public class YearIndex {
+
+    /** Largest number of years the bucket array may cover. */
+    public static final int MAX_SPAN = 1024;
+
+    /** Vehicles per year; {@code buckets[i]} holds year {@code firstYear + i}. */
+    private List<List<Vehicle>> buckets = new ArrayList<>();
+
+    /** The year of {@code buckets[0]}. */
+    private int firstYear;
+
+    /** Total number of indexed vehicles. */
+    private int size;
+
+    /** Constructs an empty index. */
+    public YearIndex() { }
+
+    /**
+     * Constructs an index holding every vehicle in {@code vehicles}.
+     *
+     * @param vehicles the vehicles to index; must not be {@code null}
+     * @throws IllegalArgumentException if {@code vehicles} is {@code null},
+     *                                  contains a vehicle without a year, or
+     *                                  spans more than {@link #MAX_SPAN} years
+     */
+    public YearIndex(Collection<Vehicle> vehicles) {
+        if (vehicles == null) throw new IllegalArgumentException("Vehicles must not be null.");
+        for (Vehicle v : vehicles) add(v);
+    }
+
+    // ── Updates ──────────────────────────────────────────────────────────────
+
+    /**
+     * Adds a vehicle to the index.
+     *
+     * @param vehicle the vehicle; must not be {@code null} and must have a year
+     * @throws IllegalArgumentException if {@code vehicle} or its year is
+     *                                  {@code null}, or if the index would then
+     *                                  span more than {@link #MAX_SPAN} years
+     */
+    public void add(Vehicle vehicle) {
+        if (vehicle == null) throw new IllegalArgumentException("Vehicle must not be null.");
+        if (vehicle.getYear() == null) throw new IllegalArgumentException("Vehicle year must not be null.");
+        int year = vehicle.getYear();
+        cover(year);
+        buckets.get(year - firstYear).add(vehicle);
+        size++;
+    }
+
+    /**
+     * Removes one occurrence of {@code vehicle}, matched by identity.
+     *
+     * @param vehicle the vehicle to remove
+     * @return {@code true} if it was in the index
+     */
+    public boolean remove(Vehicle vehicle) {
+        if (vehicle == null || vehicle.getYear() == null) return false;
+        int slot = vehicle.getYear() - firstYear;
+        if (slot < 0 || slot >= buckets.size()) return false;
+        List<Vehicle> bucket = buckets.get(slot);
+        for (int i = bucket.size() - 1; i >= 0; i--) {
+            if (bucket.get(i) == vehicle) {
+                // move the last vehicle into the gap instead of shifting the tail
+                bucket.set(i, bucket.get(bucket.size() - 1));
+                bucket.remove(bucket.size() - 1);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────
+
+    /**
+     * Returns every vehicle made strictly before {@code year}.
+     *
+     * @param year the exclusive upper bound
+     * @return the matching vehicles, earliest year first
+     */
+    public List<Vehicle> before(int year) {
+        if (year == Integer.MIN_VALUE) return new ArrayList<>();
+        return between(Integer.MIN_VALUE, year - 1);
+    }
+
+    /**
+     * Returns every vehicle made from {@code fromYear} to {@code toYear},
+     * both inclusive.
+     *
+     * @param fromYear the first year included
+     * @param toYear   the last year included
+     * @return the matching vehicles, earliest year first; empty if
+     *         {@code fromYear > toYear}
+     */
+    public List<Vehicle> between(int fromYear, int toYear) {
+        int from = firstSlot(fromYear);
+        int to   = lastSlot(toYear);
+        List<Vehicle> result = new ArrayList<>(countSlots(from, to));
+        for (int i = from; i <= to; i++) result.addAll(buckets.get(i));
+        return result;
+    }
+
+    /**
+     * Returns how many vehicles were made strictly before {@code year}.
+     *
+     * @param year the exclusive upper bound
+     * @return the number of matching vehicles
+     */
+    public int countBefore(int year) {
+        if (year == Integer.MIN_VALUE) return 0;
+        return countBetween(Integer.MIN_VALUE, year - 1);
+    }
+
+    /**
+     * Returns how many vehicles were made from {@code fromYear} to
+     * {@code toYear}, both inclusive.
+     *
+     * @param fromYear the first year included
+     * @param toYear   the last year included
+     * @return the number of matching vehicles
+     */
+    public int countBetween(int fromYear, int toYear) {
+        return countSlots(firstSlot(fromYear), lastSlot(toYear));
+    }
+
+    /** @return the total number of indexed vehicles */
+    public int size() { return size; }
+
+    /**
+     * @param year the exclusive upper bound
+     * @return a live view of the buckets of every year before {@code year},
+     *         earliest first, for walking matches without copying them
+     */
+    List<List<Vehicle>> bucketsBefore(int year) {
+        if (year == Integer.MIN_VALUE || buckets.isEmpty()) return new ArrayList<>();
+        return buckets.subList(0, Math.max(0, lastSlot(year - 1) + 1));
+    }
+
+    // ── Internals ────────────────────────────────────────────────────────────
+
+    /** @return the first bucket of {@code fromYear} or later, clamped to {@code [0, buckets.size()]} */
+    private int firstSlot(int fromYear) {
+        return (int) Math.max(0, Math.min(buckets.size(), (long) fromYear - firstYear));
+    }
+
+    /** @return the last bucket of {@code toYear} or earlier, clamped to {@code [-1, buckets.size() - 1]} */
+    private int lastSlot(int toYear) {
+        return (int) Math.max(-1, Math.min(buckets.size() - 1, (long) toYear - firstYear));
+    }
+
+    private int countSlots(int from, int to) {
+        int count = 0;
+        for (int i = from; i <= to; i++) count += buckets.get(i).size();
+        return count;
+    }
+
+    /** Widens the bucket array so that {@code year} has a bucket. */
+    private void cover(int year) {
+        if (!buckets.isEmpty()) {
+            long first = Math.min(firstYear, year);
+            long last  = Math.max(firstYear + buckets.size() - 1L, year);
+            if (last - first >= MAX_SPAN) {
+                throw new IllegalArgumentException("Year " + year + " would make the index span more than "
+                        + MAX_SPAN + " years.");
+            }
+        }
+        if (buckets.isEmpty()) {
+            firstYear = year;
+            buckets.add(new ArrayList<>());
+            return;
+        }
+        if (year < firstYear) {
+            List<List<Vehicle>> widened = new ArrayList<>();
+            for (int y = year; y < firstYear; y++) widened.add(new ArrayList<>());
+            widened.addAll(buckets);
+            buckets   = widened;
+            firstYear = year;
+        }
+        while (year - firstYear >= buckets.size()) buckets.add(new ArrayList<>());
+    }
+}
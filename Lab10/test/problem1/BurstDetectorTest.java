@@ -0,0 +1,117 @@
+package problem1;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BurstDetector}: warm-up, steady versus exploding
+ * topics, and the closed-form catch-up of windows a topic missed.
+ */
+public class BurstDetectorTest {
+
+    // ── Detection ────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that a new topic is not reported before its warm-up, however
+     * large its count, and that a steady topic is never reported.
+     */
+    @Test
+    void testWarmUpAndSteadyTopics() {
+        BurstDetector detector = new BurstDetector(0.3, 3.0, 10, 3);
+        for (int w = 0; w < 3; w++) {
+            assertTrue(detector.observe(Map.of("viral", 10_000 * (w + 1), "steady", 500)).isEmpty(), "window " + w);
+        }
+        for (int w = 0; w < 50; w++) {
+            assertTrue(detector.observe(Map.of("steady", 500 + w % 3)).isEmpty(), "window " + w);
+        }
+        assertEquals(2, detector.trackedTopics());
+    }
+
+    /**
+     * Verifies that a spike after the warm-up is reported with its baseline
+     * and velocity, highest z-score first, and that rare topics are ignored.
+     */
+    @Test
+    void testSpikeIsReported() {
+        BurstDetector detector = new BurstDetector(0.3, 3.0, 10);
+        for (int w = 0; w < 10; w++) detector.observe(Map.of("a", 20, "b", 20, "rare", 1));
+        List<Burst> bursts = detector.observe(Map.of("a", 400, "b", 100, "rare", 9));
+        assertEquals(2, bursts.size());
+        assertEquals("a", bursts.get(0).getTopic());
+        assertEquals("b", bursts.get(1).getTopic());
+        assertEquals(400, bursts.get(0).getCount());
+        assertEquals(380, bursts.get(0).getVelocity());
+        assertEquals(20.0, bursts.get(0).getBaseline(), 1e-9);
+        assertTrue(bursts.get(0).getZScore() > bursts.get(1).getZScore());
+    }
+
+    // ── Catch-up ─────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that skipping a topic for some windows gives the same
+     * baseline and z-score as feeding it explicit zero counts once it has
+     * appeared.
+     */
+    @Test
+    void testCatchUpMatchesExplicitZeros() {
+        Random random = new Random(13);
+        BurstDetector absent = new BurstDetector(0.2, -1e9, 0, 0);
+        BurstDetector zeros  = new BurstDetector(0.2, -1e9, 0, 0);
+        Set<String> seen = new HashSet<>();
+        int compared = 0;
+        for (int w = 0; w < 500; w++) {
+            Map<String, Integer> sparse = new HashMap<>();
+            Map<String, Integer> dense  = new HashMap<>();
+            for (String topic : new String[]{"x", "y", "z"}) {
+                int count = random.nextInt(4) == 0 ? 1 + random.nextInt(200) : 0;
+                if (count > 0) {
+                    sparse.put(topic, count);
+                    seen.add(topic);
+                }
+                // a topic's history starts when it first appears
+                if (seen.contains(topic)) dense.put(topic, count);
+            }
+            List<Burst> fromAbsent = absent.observe(sparse);
+            Map<String, Burst> fromZeros = new HashMap<>();
+            for (Burst b : zeros.observe(dense)) fromZeros.put(b.getTopic(), b);
+            for (Burst b : fromAbsent) {
+                Burst z = fromZeros.get(b.getTopic());
+                assertEquals(z.getBaseline(), b.getBaseline(), 1e-6 * (1 + z.getBaseline()), "window " + w);
+                assertEquals(z.getZScore(),   b.getZScore(),   1e-6 * (1 + Math.abs(z.getZScore())), "window " + w);
+                compared++;
+            }
+        }
+        assertTrue(compared > 300);
+    }
+
+    /**
+     * Verifies that a topic idle long enough is forgotten and then warms up
+     * again from scratch.
+     */
+    @Test
+    void testIdleTopicsAreForgotten() {
+        BurstDetector detector = new BurstDetector(0.5, 3.0, 1, 2);
+        for (int w = 0; w < 5; w++) detector.observe(Map.of("old", 10));
+        for (int w = 0; w < 100; w++) detector.observe(Map.of("other", 10));
+        assertEquals(1, detector.trackedTopics());
+        assertTrue(detector.observe(Map.of("old", 1_000)).isEmpty());
+    }
+
+    /**
+     * Verifies that invalid arguments are rejected.
+     */
+    @Test
+    void testInvalidArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new BurstDetector(0, 3, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BurstDetector(1, 3, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BurstDetector(Double.NaN, 3, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BurstDetector(0.5, 3, 1, -1));
+        assertThrows(IllegalArgumentException.class, () -> new BurstDetector(0.5, 3, 1).observe(null));
+    }
+}
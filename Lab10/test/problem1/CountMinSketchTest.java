@@ -0,0 +1,118 @@
+package problem1;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CountMinSketch}.
+ *
+ * <p>Exact counts are kept in a {@link HashMap} alongside the sketch. Every
+ * estimate must be at least the exact count, and no more than a
+ * {@code δ} share of keys may exceed it by more than {@code ε · N}.</p>
+ */
+public class CountMinSketchTest {
+
+    private static final double EPSILON = 0.001;
+    private static final double DELTA   = 0.01;
+
+    private CountMinSketch sketch;
+    private Map<String, Long> expected;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        sketch   = new CountMinSketch(EPSILON, DELTA);
+        expected = new HashMap<>();
+        random   = new Random(23);
+    }
+
+    private void add(String key, long count) {
+        sketch.add(key, count);
+        expected.merge(key, count, Long::sum);
+    }
+
+    /** Asserts the one-sided bound on every key and the ε · N bound on all but a δ share. */
+    private void assertWithinBounds(List<String> keys) {
+        int overBound = 0;
+        for (String key : keys) {
+            long exact    = expected.getOrDefault(key, 0L);
+            long estimate = sketch.estimate(key);
+            assertTrue(estimate >= exact, key);
+            if (estimate - exact > sketch.errorBound()) overBound++;
+        }
+        assertTrue(overBound <= DELTA * keys.size(), overBound + " of " + keys.size());
+    }
+
+    // ── Bounds ───────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies the bounds over a skewed stream, for keys that were added and
+     * for keys that never were.
+     */
+    @Test
+    void testEstimatesWithinBounds() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) keys.add("topic" + i);
+        long total = 0;
+        for (int i = 0; i < 200_000; i++) {
+            // roughly Zipfian: low indices are far more frequent
+            int index = (int) Math.min(keys.size() - 1, Math.pow(random.nextDouble(), 3) * keys.size());
+            long count = 1 + random.nextInt(3);
+            add(keys.get(index), count);
+            total += count;
+        }
+        assertEquals(total, sketch.total());
+        assertEquals((long) Math.ceil(EPSILON * total), sketch.errorBound());
+        assertWithinBounds(keys);
+
+        List<String> absent = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) absent.add("absent" + i);
+        assertWithinBounds(absent);
+    }
+
+    /**
+     * Verifies that keys sharing one {@code String.hashCode} are spread over
+     * different counters: one heavy key must not inflate the estimates of
+     * the keys whose hash it shares.
+     */
+    @Test
+    void testHashCodeCollisionsDoNotShareCounters() {
+        // "Aa" and "BB" have the same hashCode, so do all words built from them
+        List<String> colliding = new ArrayList<>();
+        for (int bits = 0; bits < 1 << 10; bits++) {
+            StringBuilder key = new StringBuilder();
+            for (int i = 0; i < 10; i++) key.append((bits >>> i & 1) == 0 ? "Aa" : "BB");
+            colliding.add(key.toString());
+        }
+        assertEquals(colliding.get(0).hashCode(), colliding.get(colliding.size() - 1).hashCode());
+
+        add(colliding.get(0), 1_000_000);
+        for (int i = 0; i < 20_000; i++) add("noise" + random.nextInt(2_000), 1);
+        assertEquals(1_000_000, sketch.estimate(colliding.get(0)), 20);
+        assertWithinBounds(colliding);
+        for (String key : colliding.subList(1, colliding.size())) {
+            assertTrue(sketch.estimate(key) < 1_000_000, key);
+        }
+    }
+
+    /**
+     * Verifies that an empty sketch estimates zero, and that out-of-range
+     * error guarantees are rejected.
+     */
+    @Test
+    void testEmptySketchAndInvalidArguments() {
+        assertEquals(0, sketch.estimate("anything"));
+        assertEquals(0, sketch.total());
+        assertEquals(0, sketch.errorBound());
+        for (double bad : new double[]{0, 1, -0.5, Double.NaN}) {
+            assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(bad, DELTA));
+            assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(EPSILON, bad));
+        }
+    }
+}
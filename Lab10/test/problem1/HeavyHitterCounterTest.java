@@ -0,0 +1,136 @@
+package problem1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HeavyHitterCounter}.
+ *
+ * <p>Exact counts are kept in a {@link HashMap}. With {@code n} topics
+ * recorded into a table of {@code capacity} candidates, Space-Saving
+ * guarantees that every topic seen more than {@code n / capacity} times is
+ * reported, and that each reported error is at most {@code n / capacity}.</p>
+ */
+public class HeavyHitterCounterTest {
+
+    private static final int CAPACITY = 50;
+
+    private HeavyHitterCounter counter;
+    private Map<String, Long> expected;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        counter  = new HeavyHitterCounter(CAPACITY, 0.001, 0.01);
+        expected = new HashMap<>();
+        random   = new Random(29);
+    }
+
+    private void add(String topic) {
+        counter.add(topic);
+        expected.merge(topic, 1L, Long::sum);
+    }
+
+    private void assertGuarantees() {
+        long n = counter.total();
+        assertEquals(expected.values().stream().mapToLong(Long::longValue).sum(), n);
+        List<HeavyHitter> all = counter.topK(CAPACITY);
+        assertEquals(Math.min(CAPACITY, expected.size()), all.size());
+
+        Set<String> reported = new HashSet<>();
+        for (HeavyHitter h : all) {
+            long exact = expected.getOrDefault(h.getTopic(), 0L);
+            assertTrue(h.getCount() >= exact, h.toString());
+            assertTrue(h.getMinCount() <= exact, h.toString());
+            assertTrue(h.getMaxError() >= 0 && h.getMaxError() <= n / CAPACITY, h.toString());
+            assertTrue(reported.add(h.getTopic()));
+        }
+        for (Map.Entry<String, Long> e : expected.entrySet()) {
+            if (e.getValue() > n / CAPACITY) assertTrue(reported.contains(e.getKey()), e.getKey());
+            assertTrue(counter.estimate(e.getKey()) >= e.getValue(), e.getKey());
+        }
+        for (int i = 1; i < all.size(); i++) {
+            HeavyHitter a = all.get(i - 1), b = all.get(i);
+            assertTrue(a.getCount() > b.getCount()
+                    || a.getCount() == b.getCount() && a.getTopic().compareTo(b.getTopic()) < 0);
+        }
+    }
+
+    // ── Guarantees ───────────────────────────────────────────────────────────
+
+    /**
+     * Verifies the Space-Saving guarantees over a skewed stream with many
+     * more distinct topics than the table holds, checked as it grows.
+     */
+    @Test
+    void testSkewedStreamGuarantees() {
+        for (int i = 0; i < 100_000; i++) {
+            int r = random.nextInt(100);
+            String topic = r < 30 ? "hot" + random.nextInt(5)
+                         : r < 50 ? "warm" + random.nextInt(40)
+                         :          "cold" + random.nextInt(20_000);
+            add(topic);
+            if (i % 10_000 == 0) assertGuarantees();
+        }
+        assertGuarantees();
+        List<String> top = new ArrayList<>();
+        for (HeavyHitter h : counter.topK(5)) top.add(h.getTopic());
+        assertEquals(Set.of("hot0", "hot1", "hot2", "hot3", "hot4"), new HashSet<>(top));
+    }
+
+    /**
+     * Verifies that counts are exact while every topic fits in the table,
+     * and that topK truncates in count-then-topic order.
+     */
+    @Test
+    void testExactWhileUnderCapacity() {
+        for (int i = 0; i < 5_000; i++) add("t" + random.nextInt(CAPACITY));
+        for (HeavyHitter h : counter.topK(CAPACITY)) {
+            assertEquals((long) expected.get(h.getTopic()), h.getCount());
+            assertEquals(0, h.getMaxError());
+        }
+        assertEquals(counter.topK(CAPACITY).subList(0, 7).toString(), counter.topK(7).toString());
+        assertTrue(counter.topK(0).isEmpty());
+
+        HeavyHitterCounter ties = new HeavyHitterCounter(4, 0.01, 0.01);
+        ties.addAll(Arrays.asList("c", "b", "a", "c", "b", "a", "d"));
+        List<String> order = new ArrayList<>();
+        for (HeavyHitter h : ties.topK(4)) order.add(h.getTopic());
+        assertEquals(List.of("a", "b", "c", "d"), order);
+    }
+
+    /**
+     * Verifies that the adversarial case of a stream of distinct topics
+     * keeps the guarantees once a late heavy topic arrives.
+     */
+    @Test
+    void testLateHeavyTopicIsReported() {
+        for (int i = 0; i < 10_000; i++) add("once" + i);
+        for (int i = 0; i < 300; i++) add("late");
+        assertGuarantees();
+        assertEquals("late", counter.topK(1).get(0).getTopic());
+    }
+
+    // ── Arguments ────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that invalid capacities, topics and result sizes are rejected.
+     */
+    @Test
+    void testInvalidArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new HeavyHitterCounter(0, 0.01, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new HeavyHitterCounter(5, 0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> counter.add(null));
+        assertThrows(IllegalArgumentException.class, () -> counter.addAll(null));
+        assertThrows(IllegalArgumentException.class, () -> counter.topK(-1));
+    }
+}
@@ -0,0 +1,107 @@
+package problem1;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TopKTracker}.
+ *
+ * <p>Counts are kept in a {@link HashMap} as well, and the leaders must
+ * equal the first {@code k} entries of that map sorted by count, highest
+ * first, then by topic.</p>
+ */
+public class TopKTrackerTest {
+
+    private Map<String, Integer> counts;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        counts = new HashMap<>();
+        random = new Random(31);
+    }
+
+    private List<Map.Entry<String, Integer>> sortedReference(int k) {
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(counts.entrySet());
+        sorted.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+        return new ArrayList<>(sorted.subList(0, Math.min(k, sorted.size())));
+    }
+
+    /**
+     * Verifies the leaders after every increment of a skewed stream, for
+     * several k, including ties on the boundary of the top k.
+     */
+    @Test
+    void testIncrementsMatchSortedCounts() {
+        for (int k : new int[]{1, 3, 10, 50}) {
+            counts.clear();
+            TopKTracker tracker = new TopKTracker(k);
+            assertTrue(tracker.topK().isEmpty());
+            for (int i = 0; i < 5_000; i++) {
+                String topic = "t" + (random.nextBoolean() ? random.nextInt(8) : random.nextInt(200));
+                tracker.update(topic, counts.merge(topic, 1, Integer::sum));
+                if (i < 200 || i % 97 == 0) assertEquals(sortedReference(k), tracker.topK(), "k=" + k + " i=" + i);
+            }
+            assertEquals(sortedReference(k), tracker.topK());
+        }
+    }
+
+    /**
+     * Verifies counts that jump by more than one, as when fed from merged
+     * partial counts, and that updating with an unchanged count is harmless.
+     */
+    @Test
+    void testJumpsAndRepeatsMatchSortedCounts() {
+        TopKTracker tracker = new TopKTracker(5);
+        for (int i = 0; i < 3_000; i++) {
+            String topic = "t" + random.nextInt(60);
+            int count = counts.merge(topic, random.nextInt(4), Integer::sum);
+            tracker.update(topic, count);
+            assertEquals(sortedReference(5), tracker.topK());
+        }
+        TopicCounter counter = new TopicCounter();
+        TopKTracker fed = new TopKTracker(5);
+        counts.clear();
+        for (int i = 0; i < 3_000; i++) {
+            String topic = "u" + random.nextInt(60);
+            counts.merge(topic, 1, Integer::sum);
+            fed.update(topic, counter.increment(topic));
+        }
+        assertEquals(sortedReference(5), fed.topK());
+        assertEquals(counter.topK(5), fed.topK());
+    }
+
+    /**
+     * Verifies the documented behavior for a count that drops: the leader
+     * keeps its place although an untracked topic has overtaken it, until
+     * that topic's count is next reported.
+     */
+    @Test
+    void testDroppedCountKeepsPlace() {
+        TopKTracker tracker = new TopKTracker(2);
+        tracker.update("a", 5);
+        tracker.update("b", 4);
+        tracker.update("c", 3);
+        tracker.update("b", 1);
+        assertEquals(List.of(Map.entry("a", 5), Map.entry("b", 1)), tracker.topK());
+        tracker.update("c", 4);
+        assertEquals(List.of(Map.entry("a", 5), Map.entry("c", 4)), tracker.topK());
+    }
+
+    /**
+     * Verifies that invalid k and null topics are rejected.
+     */
+    @Test
+    void testInvalidArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new TopKTracker(0));
+        assertThrows(IllegalArgumentException.class, () -> new TopKTracker(-1));
+        assertThrows(IllegalArgumentException.class, () -> new TopKTracker(1).update(null, 1));
+    }
+}
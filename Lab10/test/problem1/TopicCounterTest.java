@@ -0,0 +1,143 @@
+package problem1;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TopicCounter}.
+ *
+ * <p>Every sequence of updates is replayed against a {@link HashMap}, which
+ * serves as the brute-force reference for counts, removals and resizing.</p>
+ */
+public class TopicCounterTest {
+
+    private TopicCounter counter;
+    private Map<String, Integer> expected;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        counter  = new TopicCounter();
+        expected = new HashMap<>();
+        random   = new Random(42);
+    }
+
+    /** Applies {@code delta} to both the counter and the reference map. */
+    private void add(String key, int delta) {
+        int count = expected.getOrDefault(key, 0) + delta;
+        if (count == 0) expected.remove(key);
+        else            expected.put(key, count);
+        assertEquals(count, counter.add(key, delta));
+    }
+
+    private void assertMatchesReference() {
+        assertEquals(expected.size(), counter.size());
+        assertEquals(expected, counter.asMap());
+        for (Map.Entry<String, Integer> e : expected.entrySet()) {
+            assertEquals((int) e.getValue(), counter.get(e.getKey()));
+        }
+    }
+
+    // ── Counting ──────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies counts after many increments of keys that differ only in their
+     * last characters, the case that used to form long probe runs.
+     */
+    @Test
+    void testIncrementMatchesHashMap() {
+        for (int i = 0; i < 50_000; i++) add("topic" + random.nextInt(5_000), 1);
+        assertMatchesReference();
+    }
+
+    /**
+     * Verifies that negative deltas remove keys reaching zero and that the
+     * backward-shift deletion keeps every remaining key reachable.
+     */
+    @Test
+    void testAddAndRemoveMatchHashMap() {
+        List<String> live = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            if (live.isEmpty() || random.nextInt(3) > 0) {
+                String key = "k" + random.nextInt(2_000);
+                add(key, 1 + random.nextInt(3));
+                live.add(key);
+            } else {
+                String key = live.get(random.nextInt(live.size()));
+                Integer count = expected.get(key);
+                if (count != null) add(key, -count);   // drop it entirely
+            }
+            if (i % 1_000 == 0) assertMatchesReference();
+        }
+        assertMatchesReference();
+        for (String key : new ArrayList<>(expected.keySet())) add(key, -expected.get(key));
+        assertEquals(0, counter.size());
+        assertTrue(counter.asMap().isEmpty());
+    }
+
+    /**
+     * Verifies that merging two counters sums their counts.
+     */
+    @Test
+    void testMergeFrom() {
+        TopicCounter other = new TopicCounter();
+        Map<String, Integer> otherExpected = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            String key = "m" + random.nextInt(1_000);
+            if (random.nextBoolean()) {
+                add(key, 1);
+            } else {
+                other.increment(key);
+                otherExpected.merge(key, 1, Integer::sum);
+            }
+        }
+        counter.mergeFrom(other);
+        otherExpected.forEach((key, count) -> expected.merge(key, count, Integer::sum));
+        assertMatchesReference();
+    }
+
+    /**
+     * Verifies that top-K agrees with sorting the reference map, ties broken
+     * by topic.
+     */
+    @Test
+    void testTopKMatchesSort() {
+        for (int i = 0; i < 30_000; i++) add("t" + (int) Math.abs(random.nextGaussian() * 300), 1);
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort((a, b) -> a.getValue().equals(b.getValue())
+                ? a.getKey().compareTo(b.getKey()) : b.getValue() - a.getValue());
+        for (int k : new int[]{0, 1, 10, sorted.size(), sorted.size() + 5}) {
+            List<Map.Entry<String, Integer>> top = counter.topK(k);
+            assertEquals(sorted.subList(0, Math.min(k, sorted.size())), top);
+        }
+    }
+
+    // ── Contract ──────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that a null key is rejected with IllegalArgumentException.
+     */
+    @Test
+    void testNullKeyThrows() {
+        assertThrows(IllegalArgumentException.class, () -> counter.increment(null));
+        assertEquals(0, counter.get(null));
+        assertFalse(counter.contains(null));
+    }
+
+    /**
+     * Verifies that the map view cannot be modified.
+     */
+    @Test
+    void testMapViewIsReadOnly() {
+        counter.increment("a");
+        Map<String, Integer> view = counter.asMap();
+        assertThrows(UnsupportedOperationException.class, () -> view.put("b", 1));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove("a"));
+    }
+}
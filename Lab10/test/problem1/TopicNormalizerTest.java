@@ -0,0 +1,149 @@
+package problem1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TopicNormalizer}.
+ *
+ * <p>The canonicalization rules are checked on hand-picked spellings, and
+ * the intern cache, at several sizes, is checked against a normalizer with
+ * interning disabled, which recomputes every topic from scratch. Cache
+ * eviction is observed through the identity of the returned instances.</p>
+ */
+public class TopicNormalizerTest {
+
+    private static final String[] SPELLINGS = {
+        "Seattle", "seattle", "#Seattle", "##SEATTLE", "Caf\u00e9", "Cafe\u0301", "#CAFE\u0301",
+        "The", "#the", "", "#", "###", "a#b", "#A#B", "\u0130stanbul",
+    };
+
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(19);
+    }
+
+    private static TopicNormalizer.Builder allSteps() {
+        return new TopicNormalizer.Builder()
+                .setUnicodeNormalization(true)
+                .setStripHashtags(true)
+                .setCaseFolding(true)
+                .addStopTopic("#The");
+    }
+
+    // ── Canonicalization ─────────────────────────────────────────────────────
+
+    /**
+     * Verifies each step on its own and all steps together, including the
+     * stop list, which is matched after the same steps.
+     */
+    @Test
+    void testCanonicalizationRules() {
+        TopicNormalizer none = new TopicNormalizer.Builder().build();
+        assertEquals("#Seattle", none.normalize("#Seattle"));
+        assertNull(none.normalize(""));
+
+        TopicNormalizer nfc = new TopicNormalizer.Builder().setUnicodeNormalization(true).build();
+        assertEquals("Caf\u00e9", nfc.normalize("Cafe\u0301"));
+
+        TopicNormalizer hashtags = new TopicNormalizer.Builder().setStripHashtags(true).build();
+        assertEquals("Seattle", hashtags.normalize("##Seattle"));
+        assertEquals("a#b", hashtags.normalize("#a#b"));
+        assertNull(hashtags.normalize("###"));
+
+        TopicNormalizer folding = new TopicNormalizer.Builder().setCaseFolding(true).build();
+        assertEquals("seattle", folding.normalize("SeAtTlE"));
+        assertEquals("i\u0307stanbul", folding.normalize("\u0130stanbul"));   // locale-independent
+
+        TopicNormalizer all = allSteps().build();
+        assertEquals("seattle", all.normalize("##SEATTLE"));
+        assertEquals("caf\u00e9", all.normalize("#CAFE\u0301"));
+        assertNull(all.normalize("THE"));
+        assertNull(all.normalize("#the"));
+        assertEquals("them", all.normalize("them"));
+        assertThrows(IllegalArgumentException.class, () -> all.normalize(null));
+    }
+
+    /**
+     * Verifies that dropped topics stay dropped when answered from the cache,
+     * that an empty raw topic is not mistaken for the cached sentinel, and
+     * that a stop topic normalizing to nothing is ignored.
+     */
+    @Test
+    void testDroppedTopics() {
+        TopicNormalizer normalizer = allSteps().addStopTopic("#").build();
+        for (int round = 0; round < 3; round++) {
+            assertNull(normalizer.normalize("The"));
+            assertNull(normalizer.normalize(""));
+            assertNull(normalizer.normalize(new String("")));
+            assertNull(normalizer.normalize("##"));
+            assertEquals("a", normalizer.normalize("#A"));
+        }
+    }
+
+    // ── Intern cache ─────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that cached results equal uncached ones for random spellings
+     * at several cache sizes, and that with a cache large enough every
+     * spelling of a topic returns one shared instance.
+     */
+    @Test
+    void testCacheMatchesUncached() {
+        TopicNormalizer uncached = allSteps().setInternCacheSize(0).build();
+        List<TopicNormalizer> cached = new ArrayList<>();
+        for (int size : new int[]{1, 2, 7, 1 << 16}) cached.add(allSteps().setInternCacheSize(size).build());
+        TopicNormalizer large = cached.get(cached.size() - 1);
+
+        for (int i = 0; i < 20_000; i++) {
+            String topic = random.nextInt(3) == 0
+                    ? SPELLINGS[random.nextInt(SPELLINGS.length)]
+                    : "#".repeat(random.nextInt(2)) + (random.nextBoolean() ? "Topic" : "TOPIC") + random.nextInt(50);
+            String expected = uncached.normalize(topic);
+            for (TopicNormalizer normalizer : cached) assertEquals(expected, normalizer.normalize(new String(topic)), topic);
+        }
+        String seattle = large.normalize("Seattle");
+        for (String spelling : new String[]{"seattle", "#Seattle", "##SEATTLE"}) {
+            assertSame(seattle, large.normalize(spelling));
+        }
+        assertSame(large.normalize("topic7"), large.normalize("#TOPIC7"));
+    }
+
+    /**
+     * Verifies least-recently-used eviction of raw and canonical spellings:
+     * a canonical instance that keeps being used survives any number of
+     * other topics, and one that is not used is evicted and replaced by a
+     * new, equal instance.
+     */
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        TopicNormalizer normalizer = allSteps().setInternCacheSize(4).build();
+        String seattle = normalizer.normalize("#Seattle");   // caches "seattle" and "#Seattle"
+        for (int i = 0; i < 50; i++) {
+            normalizer.normalize("other" + i);
+            assertSame(seattle, normalizer.normalize("seattle"));
+        }
+        assertSame(seattle, normalizer.normalize("SEATTLE"));
+
+        for (int i = 0; i < 4; i++) normalizer.normalize("filler" + i);
+        String fresh = normalizer.normalize("#SEATTLE");
+        assertEquals(seattle, fresh);
+        assertNotSame(seattle, fresh);
+        assertSame(fresh, normalizer.normalize("seattle"));
+    }
+
+    /**
+     * Verifies that invalid builder arguments are rejected.
+     */
+    @Test
+    void testInvalidArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new TopicNormalizer.Builder().addStopTopic(null));
+        assertThrows(IllegalArgumentException.class, () -> new TopicNormalizer.Builder().setInternCacheSize(-1));
+    }
+}
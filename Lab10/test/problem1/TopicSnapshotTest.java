@@ -0,0 +1,135 @@
+package problem1;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TopicSnapshot}: write/read round-trips, the sorted
+ * streaming order, and merging checked against summing maps.
+ */
+public class TopicSnapshotTest {
+
+    private Path dir;
+    private Random random;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir    = Files.createTempDirectory("snapshots");
+        random = new Random(11);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) Files.delete(p);
+        }
+    }
+
+    /** @return random counts over hashtag-style keys sharing long prefixes */
+    private Map<String, Integer> randomCounts(int keys) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < keys; i++) {
+            String key = "#trend" + random.nextInt(keys * 2) + (random.nextInt(10) == 0 ? "\u00e9\u6f22" : "");
+            counts.put(key, 1 + random.nextInt(random.nextBoolean() ? 100 : 1_000_000));
+        }
+        return counts;
+    }
+
+    private static Map<String, Long> readAll(Path file) throws IOException {
+        Map<String, Long> all = new HashMap<>();
+        TopicSnapshot.forEach(file, all::put);
+        return all;
+    }
+
+    // ── Round-trips ───────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that a map written and read back is unchanged.
+     */
+    @Test
+    void testMapRoundTrip() throws IOException {
+        Map<String, Integer> counts = randomCounts(5_000);
+        Path file = dir.resolve("counts.tts");
+        TopicSnapshot.write(counts, file);
+        assertEquals(counts, TopicSnapshot.read(file).asMap());
+    }
+
+    /**
+     * Verifies that a counter written and read back is unchanged, and that an
+     * empty counter round-trips to an empty one.
+     */
+    @Test
+    void testCounterRoundTrip() throws IOException {
+        TopicCounter counter = new TopicCounter();
+        randomCounts(3_000).forEach(counter::add);
+        Path file = dir.resolve("counter.tts");
+        TopicSnapshot.write(counter, file);
+        assertEquals(counter.asMap(), TopicSnapshot.read(file).asMap());
+
+        TopicSnapshot.write(new TopicCounter(), file);
+        assertEquals(0, TopicSnapshot.read(file).size());
+    }
+
+    /**
+     * Verifies that entries stream in unsigned UTF-8 byte order.
+     */
+    @Test
+    void testForEachIsSorted() throws IOException {
+        Path file = dir.resolve("sorted.tts");
+        TopicSnapshot.write(randomCounts(2_000), file);
+        List<byte[]> keys = new ArrayList<>();
+        TopicSnapshot.forEach(file, (key, count) -> keys.add(key.getBytes(StandardCharsets.UTF_8)));
+        for (int i = 1; i < keys.size(); i++) {
+            assertTrue(Arrays.compareUnsigned(keys.get(i - 1), keys.get(i)) < 0);
+        }
+    }
+
+    // ── Merging ───────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that merging overlapping snapshots sums their counts, without
+     * overflowing past {@code int} range.
+     */
+    @Test
+    void testMergeSumsCounts() throws IOException {
+        List<Path> inputs = new ArrayList<>();
+        Map<String, Long> expected = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            Map<String, Integer> counts = randomCounts(2_000);
+            counts.put("#everywhere", Integer.MAX_VALUE);
+            counts.forEach((k, v) -> expected.merge(k, (long) v, Long::sum));
+            Path input = dir.resolve("in" + i + ".tts");
+            TopicSnapshot.write(counts, input);
+            inputs.add(input);
+        }
+        Path merged = dir.resolve("merged.tts");
+        TopicSnapshot.merge(inputs, merged);
+        assertEquals(expected, readAll(merged));
+        assertEquals(5L * Integer.MAX_VALUE, (long) readAll(merged).get("#everywhere"));
+        assertThrows(IOException.class, () -> TopicSnapshot.read(merged));
+    }
+
+    /**
+     * Verifies that a file that is not a snapshot is rejected.
+     */
+    @Test
+    void testRejectsForeignFile() throws IOException {
+        Path file = dir.resolve("not-a-snapshot.txt");
+        Files.write(file, "hello world".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> TopicSnapshot.read(file));
+    }
+}
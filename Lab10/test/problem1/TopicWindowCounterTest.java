@@ -0,0 +1,203 @@
+package problem1;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TopicWindowCounter}.
+ *
+ * <p>Every topic is also kept in a plain list together with the bucket it
+ * was recorded into, and the window is recounted from that list by brute
+ * force: the topics of the last {@code buckets} buckets, where a bucket is
+ * {@code size / buckets} topics or {@code window / buckets} milliseconds.</p>
+ */
+public class TopicWindowCounterTest {
+
+    private Random random;
+
+    /** The fake clock, in milliseconds. */
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(13);
+        now    = 1_000_000;
+    }
+
+    /** Recounts the topics whose bucket is within {@code buckets} of {@code current}. */
+    private static Map<String, Integer> recount(List<String> topics, List<Long> bucketIds,
+                                                long current, int buckets) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < topics.size(); i++) {
+            if (bucketIds.get(i) > current - buckets) counts.merge(topics.get(i), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static void assertMatches(Map<String, Integer> expected, TopicWindowCounter counter) {
+        assertEquals(expected, counter.counts());
+        assertEquals(expected.size(), counter.counts().size());
+        long total = 0;
+        for (int c : expected.values()) total += c;
+        assertEquals(total, counter.total());
+        for (String topic : new String[]{"t0", "t7", "t19", "absent"}) {
+            assertEquals((int) expected.getOrDefault(topic, 0), counter.count(topic));
+        }
+
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+        for (int k : new int[]{0, 1, 5, expected.size() + 3}) {
+            assertEquals(sorted.subList(0, Math.min(k, sorted.size())), counter.topK(k));
+        }
+    }
+
+    // ── Count windows ────────────────────────────────────────────────────────
+
+    /**
+     * Verifies a count window against recounting the most recent whole
+     * buckets of topics, after every add around and across bucket edges.
+     */
+    @Test
+    void testCountWindowMatchesRecount() {
+        int buckets = 4, span = 25;
+        TopicWindowCounter counter = TopicWindowCounter.ofCount(buckets * span, buckets);
+        List<String> topics    = new ArrayList<>();
+        List<Long>   bucketIds = new ArrayList<>();
+        assertMatches(new HashMap<>(), counter);
+        for (int i = 0; i < 2_000; i++) {
+            String topic = "t" + random.nextInt(20);
+            counter.add(topic);
+            topics.add(topic);
+            bucketIds.add((long) i / span);
+            if (i < 300 || i % 37 == 0) assertMatches(recount(topics, bucketIds, (long) i / span, buckets), counter);
+        }
+        // the window holds between (buckets - 1) * span + 1 and buckets * span topics
+        assertTrue(counter.total() > (buckets - 1) * span && counter.total() <= buckets * span);
+    }
+
+    /**
+     * Verifies that a count window of one topic per bucket is exactly the
+     * last {@code size} topics, and that addAll matches repeated adds.
+     */
+    @Test
+    void testCountWindowOfSingleTopics() {
+        int size = 7;
+        TopicWindowCounter counter = TopicWindowCounter.ofCount(size, size);
+        TopicWindowCounter batched = TopicWindowCounter.ofCount(size, size);
+        List<String> topics = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String topic = "t" + random.nextInt(4);
+            counter.add(topic);
+            topics.add(topic);
+            Map<String, Integer> expected = new HashMap<>();
+            for (String t : topics.subList(Math.max(0, topics.size() - size), topics.size())) {
+                expected.merge(t, 1, Integer::sum);
+            }
+            assertMatches(expected, counter);
+        }
+        batched.addAll(topics);
+        assertEquals(counter.counts(), batched.counts());
+    }
+
+    // ── Time windows ─────────────────────────────────────────────────────────
+
+    /**
+     * Verifies a time window against recounting the topics of the last
+     * buckets, with the clock advancing in small and large jumps and
+     * sometimes moving backwards, which leaves the window where it is.
+     */
+    @Test
+    void testTimeWindowMatchesRecount() {
+        int buckets = 5, span = 20;
+        TopicWindowCounter counter = TopicWindowCounter.ofDuration(
+                Duration.ofMillis(buckets * span), buckets, () -> now);
+        List<String> topics    = new ArrayList<>();
+        List<Long>   bucketIds = new ArrayList<>();
+        long current = now / span;
+        for (int i = 0; i < 5_000; i++) {
+            int jump = random.nextInt(100);
+            if      (jump < 60) now += random.nextInt(4);
+            else if (jump < 95) now += random.nextInt(40);
+            else if (jump < 98) now += random.nextInt(500);
+            else                now -= random.nextInt(60);
+            current = Math.max(current, now / span);
+
+            if (random.nextInt(5) == 0) {
+                assertMatches(recount(topics, bucketIds, current, buckets), counter);
+            } else {
+                String topic = "t" + random.nextInt(20);
+                counter.add(topic);
+                topics.add(topic);
+                bucketIds.add(current);
+            }
+        }
+        assertMatches(recount(topics, bucketIds, current, buckets), counter);
+        now += (long) buckets * span;
+        assertMatches(new HashMap<>(), counter);
+    }
+
+    /**
+     * Verifies the bucket edge at which a topic's total reaches zero: it is
+     * still counted on the last millisecond of its bucket's lifetime, and is
+     * dropped from the map, not left at zero, on the next one. A topic that
+     * also has occurrences in a live bucket keeps those.
+     */
+    @Test
+    void testExpiredTopicIsDropped() {
+        now = 0;
+        TopicWindowCounter counter = TopicWindowCounter.ofDuration(Duration.ofMillis(40), 4, () -> now);
+        for (now = 0; now < 10; now++) counter.add("old");
+        now = 9;
+        counter.add("both");
+        now = 35;
+        counter.add("both");
+        counter.add("new");
+
+        now = 39;
+        assertEquals(10, counter.count("old"));
+        assertEquals(2, counter.count("both"));
+        assertEquals(13, counter.total());
+
+        now = 40;
+        assertEquals(0, counter.count("old"));
+        assertFalse(counter.counts().containsKey("old"));
+        assertEquals(Map.of("both", 1, "new", 1), counter.counts());
+        assertEquals(2, counter.total());
+        assertEquals(List.of(Map.entry("both", 1), Map.entry("new", 1)), counter.topK(5));
+
+        now = 80;
+        assertTrue(counter.counts().isEmpty());
+        assertEquals(0, counter.total());
+        counter.add("old");
+        assertEquals(1, counter.count("old"));
+    }
+
+    // ── Arguments ────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that invalid windows, topics and result sizes are rejected.
+     */
+    @Test
+    void testInvalidArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> TopicWindowCounter.ofCount(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> TopicWindowCounter.ofCount(3, 4));
+        assertThrows(IllegalArgumentException.class, () -> TopicWindowCounter.ofDuration(null, 4));
+        assertThrows(IllegalArgumentException.class, () -> TopicWindowCounter.ofDuration(Duration.ofMillis(3), 4));
+        assertThrows(IllegalArgumentException.class,
+                () -> TopicWindowCounter.ofDuration(Duration.ofSeconds(1), 4, null));
+        TopicWindowCounter counter = TopicWindowCounter.ofCount(10, 2);
+        assertThrows(IllegalArgumentException.class, () -> counter.add(null));
+        assertThrows(IllegalArgumentException.class, () -> counter.addAll(null));
+        assertThrows(IllegalArgumentException.class, () -> counter.addAll(Arrays.asList("a", null)));
+        assertThrows(IllegalArgumentException.class, () -> counter.topK(-1));
+    }
+}
@@ -0,0 +1,169 @@
+package problem1;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TrendingTopics}.
+ *
+ * <p>Every counting path must agree exactly with a brute-force count into a
+ * {@link HashMap}, whatever the thread count or chunking.</p>
+ */
+public class TrendingTopicsTest {
+
+    private TrendingTopics tt;
+    private List<String> topics;
+    private Map<String, Integer> expected;
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        tt = new TrendingTopics();
+        Random random = new Random(7);
+        topics = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            // skewed: a few hot topics and a long tail
+            int id = random.nextInt(4) == 0 ? random.nextInt(10) : random.nextInt(20_000);
+            topics.add("topic" + id);
+        }
+        expected = new HashMap<>();
+        for (String t : topics) expected.merge(t, 1, Integer::sum);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (file != null) Files.deleteIfExists(file);
+    }
+
+    // ── Sequential ────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies the example from the class documentation.
+     */
+    @Test
+    void testCountTopicsExample() {
+        Map<String, Integer> counts = tt.countTopics(List.of("Seattle", "NEU", "Seattle", "NEU", "NEU"));
+        assertEquals(Map.of("Seattle", 2, "NEU", 3), counts);
+    }
+
+    /**
+     * Verifies sequential counting against the brute-force reference.
+     */
+    @Test
+    void testCountTopicsMatchesReference() {
+        assertEquals(expected, tt.countTopics(topics));
+    }
+
+    /**
+     * Verifies that null input and null topics are rejected.
+     */
+    @Test
+    void testNullsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> tt.countTopics((List<String>) null));
+        List<String> withNull = new ArrayList<>(List.of("a"));
+        withNull.add(null);
+        assertThrows(IllegalArgumentException.class, () -> tt.countTopics(withNull));
+    }
+
+    // ── Top K ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies topK against sorting the reference counts by count, highest
+     * first, then by topic, for k below, at and beyond the number of topics.
+     */
+    @Test
+    void testTopKMatchesSortedCounts() {
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+        for (int k : new int[]{0, 1, 10, 11, 500, sorted.size(), sorted.size() + 10}) {
+            assertEquals(sorted.subList(0, Math.min(k, sorted.size())), tt.topK(topics, k), "k=" + k);
+        }
+        assertEquals(List.of(Map.entry("NEU", 3), Map.entry("Seattle", 2)),
+                tt.topK(List.of("Seattle", "NEU", "Seattle", "NEU", "NEU"), 5));
+    }
+
+    /**
+     * Verifies that a negative k is rejected before any topic is counted.
+     */
+    @Test
+    void testTopKValidatesKFirst() {
+        List<String> withNull = new ArrayList<>(List.of("a"));
+        withNull.add(null);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> tt.topK(withNull, -1));
+        assertEquals("k must not be negative.", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> tt.topK(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> tt.topK(withNull, 1));
+    }
+
+    // ── Parallel ──────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that parallel counting equals sequential counting for every
+     * thread count, including chunks smaller than the number of workers.
+     */
+    @Test
+    void testParallelMatchesSequential() {
+        Map<String, Integer> sequential = tt.countTopics(topics);
+        for (int threads : new int[]{1, 2, 3, 8, 17}) {
+            assertEquals(sequential, tt.countTopicsParallel(topics, threads, 1), "threads=" + threads);
+        }
+        assertEquals(sequential, tt.countTopicsParallel(topics));
+    }
+
+    /**
+     * Verifies parallel counting of small and non-random-access lists.
+     */
+    @Test
+    void testParallelEdgeCases() {
+        assertTrue(tt.countTopicsParallel(new ArrayList<>(), 4, 1).isEmpty());
+        assertEquals(Map.of("a", 1), tt.countTopicsParallel(List.of("a"), 4, 1));
+        List<String> linked = new LinkedList<>(topics.subList(0, 5_000));
+        assertEquals(tt.countTopics(linked), tt.countTopicsParallel(linked, 4, 1));
+        assertThrows(IllegalArgumentException.class, () -> tt.countTopicsParallel(topics, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> tt.countTopicsParallel(topics, 2, 0));
+    }
+
+    // ── Mapped files ──────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that counting a file, on one thread or many, equals counting
+     * the same topics as a list.
+     */
+    @Test
+    void testFileCountsMatchList() throws IOException {
+        file = Files.createTempFile("topics", ".txt");
+        Files.write(file, topics, StandardCharsets.UTF_8);
+        assertEquals(expected, tt.countTopics(file));
+        for (int threads : new int[]{1, 2, 5, 16}) {
+            assertEquals(expected, tt.countTopics(file, threads), "threads=" + threads);
+        }
+    }
+
+    /**
+     * Verifies CRLF line endings, empty lines, a missing final newline and
+     * multi-byte UTF-8 topics.
+     */
+    @Test
+    void testFileLineHandling() throws IOException {
+        file = Files.createTempFile("topics", ".txt");
+        Files.write(file, "Z\u00fcrich\r\n\nNEU\r\nZ\u00fcrich\n\n#tag".getBytes(StandardCharsets.UTF_8));
+        Map<String, Integer> want = Map.of("Z\u00fcrich", 2, "NEU", 1, "#tag", 1);
+        assertEquals(want, tt.countTopics(file));
+        for (int threads = 1; threads <= 8; threads++) {
+            assertEquals(want, tt.countTopics(file, threads), "threads=" + threads);
+        }
+    }
+}
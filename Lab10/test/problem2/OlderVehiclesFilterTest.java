@@ -0,0 +1,174 @@
+package problem2;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the parallel and paginated paths of
+ * {@link OlderVehiclesFilter}.
+ *
+ * <p>Both must return exactly the sequential result, in the same order, over
+ * every backing store: parallel filtering for every thread count, and pages
+ * for every offset and page size.</p>
+ */
+public class OlderVehiclesFilterTest {
+
+    private List<Vehicle> vehicles;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(9);
+        vehicles = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            vehicles.add(new Vehicle("Make" + random.nextInt(40), "Model" + i,
+                    1960 + random.nextInt(65), Color.BLUE));
+        }
+    }
+
+    /** @return one filter per backing store over the same vehicles */
+    private List<OlderVehiclesFilter> filters(List<Vehicle> source) {
+        return List.of(new OlderVehiclesFilter(source),
+                new OlderVehiclesFilter(VehicleColumns.of(source)),
+                new OlderVehiclesFilter(new YearIndex(source)));
+    }
+
+    // ── Parallel ─────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that parallel filtering equals sequential filtering for each
+     * store, thread count and cutoff, including cutoffs matching nothing or
+     * everything.
+     */
+    @Test
+    void testParallelMatchesSequential() {
+        for (OlderVehiclesFilter filter : filters(vehicles)) {
+            for (int cutoff : new int[]{Integer.MIN_VALUE, 1960, 1999, 2025, Integer.MAX_VALUE}) {
+                List<String> sequential = filter.filterOlderVehicles(cutoff);
+                for (int threads : new int[]{1, 2, 3, 8}) {
+                    assertEquals(sequential, filter.filterOlderVehiclesParallel(cutoff, threads, 1),
+                            "cutoff=" + cutoff + " threads=" + threads);
+                }
+            }
+            assertEquals(filter.filterOlderVehicles(), filter.filterOlderVehiclesParallel());
+        }
+    }
+
+    /**
+     * Verifies that the list store preserves fleet order, which the other
+     * stores do not promise, against a brute-force loop.
+     */
+    @Test
+    void testParallelKeepsFleetOrder() {
+        List<String> expected = new ArrayList<>();
+        for (Vehicle v : vehicles) if (v.getYear() < 1990) expected.add(OlderVehiclesFilter.describe(v));
+        assertEquals(expected, new OlderVehiclesFilter(vehicles).filterOlderVehiclesParallel(1990, 4, 1));
+        assertEquals(expected, new OlderVehiclesFilter(VehicleColumns.of(vehicles))
+                .filterOlderVehiclesParallel(1990, 4, 1));
+    }
+
+    /**
+     * Verifies fleets smaller than the worker count, linked lists, and
+     * invalid arguments.
+     */
+    @Test
+    void testParallelEdgeCases() {
+        for (OlderVehiclesFilter filter : filters(vehicles.subList(0, 3))) {
+            assertEquals(filter.filterOlderVehicles(2000), filter.filterOlderVehiclesParallel(2000, 16, 1));
+        }
+        for (OlderVehiclesFilter filter : filters(new ArrayList<>())) {
+            assertTrue(filter.filterOlderVehiclesParallel(2000, 4, 1).isEmpty());
+        }
+        OlderVehiclesFilter linked = new OlderVehiclesFilter(new LinkedList<>(vehicles.subList(0, 5_000)));
+        assertEquals(linked.filterOlderVehicles(1985), linked.filterOlderVehiclesParallel(1985, 4, 1));
+
+        OlderVehiclesFilter filter = new OlderVehiclesFilter(vehicles);
+        assertThrows(IllegalArgumentException.class, () -> filter.filterOlderVehiclesParallel(1999, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> filter.filterOlderVehiclesParallel(1999, 2, 0));
+    }
+
+    // ── Pagination ───────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that consecutive pages, at any offset, concatenate to the
+     * full result for each store.
+     */
+    @Test
+    void testPagesMatchFullResult() {
+        for (OlderVehiclesFilter filter : filters(vehicles.subList(0, 5_000))) {
+            List<String> all = filter.filterOlderVehicles(1980);
+            for (int pageSize : new int[]{1, 7, 100, all.size() + 1}) {
+                List<String> paged = new ArrayList<>();
+                for (int offset = 0; offset <= all.size(); offset += pageSize) {
+                    paged.addAll(filter.filterOlderVehicles(1980, offset, pageSize));
+                }
+                assertEquals(all, paged, "pageSize=" + pageSize);
+            }
+            assertEquals(all.subList(13, 20), filter.filterOlderVehicles(1980, 13, 7));
+            assertTrue(filter.filterOlderVehicles(1980, all.size(), 10).isEmpty());
+            assertTrue(filter.filterOlderVehicles(1980, 0, 0).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> filter.filterOlderVehicles(1980, -1, 1));
+            assertThrows(IllegalArgumentException.class, () -> filter.filterOlderVehicles(1980, 0, -1));
+        }
+    }
+
+    /**
+     * Verifies that a cursor's skip, vehicle pages and written lines agree
+     * with the full result for each store.
+     */
+    @Test
+    void testCursorMatchesFullResult() throws IOException {
+        for (OlderVehiclesFilter filter : filters(vehicles.subList(0, 5_000))) {
+            List<String> all = filter.filterOlderVehicles(1990);
+
+            VehicleCursor cursor = filter.olderVehicles(1990);
+            assertEquals(25, cursor.skip(25));
+            List<String> described = new ArrayList<>();
+            for (Vehicle v : cursor.nextPage(50)) described.add(OlderVehiclesFilter.describe(v));
+            assertEquals(all.subList(25, 75), described);
+            assertEquals(all.size() - 75, cursor.skip(Integer.MAX_VALUE));
+            assertFalse(cursor.next());
+
+            StringWriter out = new StringWriter();
+            assertEquals(all.size(), filter.olderVehicles(1990).writeTo(out, Integer.MAX_VALUE));
+            StringBuilder expected = new StringBuilder();
+            for (String line : all) expected.append(line).append(System.lineSeparator());
+            assertEquals(expected.toString(), out.toString());
+        }
+    }
+
+    /**
+     * Verifies that after skipping {@code k} matches the cursor is on the
+     * k-th match and continues with the next one, for every k across several
+     * year buckets, including skips that end exactly on a bucket's last
+     * vehicle and years with no vehicles at all.
+     */
+    @Test
+    void testSkipLandsOnLastSkippedMatch() {
+        List<Vehicle> gappy = new ArrayList<>();
+        for (Vehicle v : vehicles.subList(0, 3_000)) {
+            if (v.getYear() % 3 != 0) gappy.add(v);   // every third year is empty
+        }
+        for (OlderVehiclesFilter filter : filters(gappy)) {
+            List<String> all = filter.filterOlderVehicles(1975);
+            for (int k = 1; k <= all.size(); k++) {
+                VehicleCursor cursor = filter.olderVehicles(1975);
+                assertEquals(k, cursor.skip(k));
+                assertEquals(all.get(k - 1), cursor.describe(), "k=" + k);
+                assertEquals(k < all.size(), cursor.next(), "k=" + k);
+                if (k < all.size()) assertEquals(all.get(k), cursor.describe(), "k=" + k);
+            }
+            VehicleCursor cursor = filter.olderVehicles(1975);
+            assertEquals(all.size(), cursor.skip(all.size() + 5));
+            assertThrows(IllegalStateException.class, cursor::current);
+            assertEquals(0, cursor.skip(1));
+        }
+    }
+}
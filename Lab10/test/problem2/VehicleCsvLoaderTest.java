@@ -0,0 +1,154 @@
+package problem2;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link VehicleCsvLoader}.
+ *
+ * <p>Random files are generated together with the vehicles they describe,
+ * and both load paths must return exactly those vehicles, field by field
+ * and in order.</p>
+ */
+public class VehicleCsvLoaderTest {
+
+    private static final String[] COLOR_NAMES = {"red", "BLUE", "Dark_Gray", "lightgray", "white"};
+    private static final Color[]  NAMED       = {Color.RED, Color.BLUE, Color.DARK_GRAY, Color.LIGHT_GRAY, Color.WHITE};
+
+    private Path file;
+    private Random random;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file   = Files.createTempFile("vehicles", ".csv");
+        random = new Random(27);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private static void assertSameRows(List<Vehicle> expected, List<Vehicle> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Vehicle e = expected.get(i), a = actual.get(i);
+            assertEquals(e.getMake(),         a.getMake(),         "row " + i);
+            assertEquals(e.getModel(),        a.getModel(),        "row " + i);
+            assertEquals(e.getYear(),         a.getYear(),         "row " + i);
+            assertEquals(e.getVehicleColor(), a.getVehicleColor(), "row " + i);
+        }
+    }
+
+    private static List<Vehicle> rows(VehicleColumns columns) {
+        List<Vehicle> rows = new ArrayList<>();
+        for (int row = 0; row < columns.size(); row++) rows.add(columns.get(row));
+        return rows;
+    }
+
+    private void write(String text) throws IOException {
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ── Loading ──────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies both load paths against the vehicles a random file was
+     * generated from, with a header, padding, CRLF and blank lines, hex and
+     * named colors, and missing colors.
+     */
+    @Test
+    void testLoadMatchesGeneratedVehicles() throws IOException {
+        List<Vehicle> expected = new ArrayList<>();
+        StringBuilder csv = new StringBuilder("make,model,year,color\n");
+        for (int i = 0; i < 20_000; i++) {
+            if (random.nextInt(50) == 0) csv.append(random.nextBoolean() ? "\n" : "  \r\n");
+            String make  = random.nextInt(30) == 0 ? "Citro\u00ebn" : "Make" + random.nextInt(40);
+            String model = "Model " + random.nextInt(300);
+            int    year  = 1900 + random.nextInt(130);
+            Color  color;
+            String colorField;
+            switch (random.nextInt(4)) {
+                case 0:
+                    color = null;
+                    colorField = random.nextBoolean() ? "" : null;
+                    break;
+                case 1:
+                    int c = random.nextInt(NAMED.length);
+                    color = NAMED[c];
+                    colorField = COLOR_NAMES[c];
+                    break;
+                default:
+                    int rgb = random.nextInt(1 << 24);
+                    color = new Color(rgb);
+                    colorField = (random.nextBoolean() ? "#" : "") + String.format(random.nextBoolean() ? "%06x" : "%06X", rgb);
+            }
+            expected.add(new Vehicle(make, model, year, color));
+            csv.append(random.nextBoolean() ? " " : "").append(make).append(",\t").append(model)
+               .append(" , ").append(year);
+            if (colorField != null) csv.append(',').append(colorField);
+            csv.append(random.nextInt(4) == 0 ? "\r\n" : "\n");
+        }
+        write(csv.toString().trim());   // no final line break
+        assertSameRows(expected, VehicleCsvLoader.load(file));
+        assertSameRows(expected, rows(VehicleCsvLoader.loadColumns(file)));
+    }
+
+    /**
+     * Verifies that repeated makes, models and colors share one instance,
+     * and that files without a header or rows load as expected.
+     */
+    @Test
+    void testInterningAndEdgeFiles() throws IOException {
+        write("Ford,F-150,1995,red\nFord,F-150,1996\nford,f-150,1997,#00ff00\nKia,Rio,1998,00FF00\n");
+        List<Vehicle> vehicles = VehicleCsvLoader.load(file);
+        assertEquals(4, vehicles.size());
+        assertSame(vehicles.get(0).getMake(),  vehicles.get(1).getMake());
+        assertSame(vehicles.get(0).getModel(), vehicles.get(1).getModel());
+        assertEquals("ford", vehicles.get(2).getMake());
+        assertEquals(Color.GREEN, vehicles.get(2).getVehicleColor());
+        assertSame(vehicles.get(2).getVehicleColor(), vehicles.get(3).getVehicleColor());
+
+        write("");
+        assertTrue(VehicleCsvLoader.load(file).isEmpty());
+        write("make,model,year\n\n");
+        assertEquals(0, VehicleCsvLoader.loadColumns(file).size());
+        assertThrows(IllegalArgumentException.class, () -> VehicleCsvLoader.load(null));
+    }
+
+    // ── Malformed lines ──────────────────────────────────────────────────────
+
+    /**
+     * Verifies that each kind of malformed line stops the load with an
+     * IOException naming its line.
+     */
+    @Test
+    void testMalformedLinesThrow() throws IOException {
+        String[] bad = {
+            "Ford,F-150",
+            "Ford,F-150,1995,red,extra",
+            "Ford,F-150,nineteen,red",
+            "Ford,F-150,-1995,red",
+            "Ford,F-150,40000,red",
+            "Ford,F-150,1995,mauve",
+            "Ford,F-150,1995,#12345g",
+        };
+        for (String line : bad) {
+            write("Ford,F-150,1995,red\n" + line + "\n");
+            IOException e = assertThrows(IOException.class, () -> VehicleCsvLoader.load(file), line);
+            assertTrue(e.getMessage().contains("line 2"), e.getMessage());
+        }
+        write("Ford,F-150,32767,red\n");
+        assertEquals(32767, (int) VehicleCsvLoader.load(file).get(0).getYear());
+    }
+}
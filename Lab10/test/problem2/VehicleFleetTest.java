@@ -0,0 +1,186 @@
+package problem2;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link VehicleFleet} and {@link OlderVehiclesView}.
+ *
+ * <p>Random changes are applied to a fleet and to plain lists that follow
+ * the documented order rules: removal moves the fleet's last vehicle into
+ * the gap, and the view keeps matches in the order they joined it. Vehicles
+ * are compared by identity, since {@link Vehicle#equals} looks only at the
+ * make.</p>
+ */
+public class VehicleFleetTest {
+
+    private static final int CUTOFF = 1999;
+
+    private VehicleFleet fleet;
+    private List<Vehicle> expectedFleet;
+    private List<Vehicle> expectedView;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        fleet         = new VehicleFleet();
+        expectedFleet = new ArrayList<>();
+        expectedView  = new ArrayList<>();
+        random        = new Random(19);
+    }
+
+    private Vehicle randomVehicle() {
+        return new Vehicle("Make" + random.nextInt(3), "Model", 1980 + random.nextInt(40), Color.GRAY);
+    }
+
+    private static void assertSameVehicles(List<Vehicle> expected, List<Vehicle> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) assertSame(expected.get(i), actual.get(i), "index " + i);
+    }
+
+    private static void assertDescriptions(List<Vehicle> expected, List<String> actual) {
+        List<String> descriptions = new ArrayList<>();
+        for (Vehicle v : expected) descriptions.add(OlderVehiclesFilter.describe(v));
+        assertEquals(descriptions, actual);
+    }
+
+    private static int indexOf(List<Vehicle> list, Vehicle v) {
+        for (int i = 0; i < list.size(); i++) if (list.get(i) == v) return i;
+        return -1;
+    }
+
+    /** Applies one random change to the fleet and to both reference lists. */
+    private void randomChange() {
+        int op = expectedFleet.isEmpty() ? 0 : random.nextInt(3);
+        if (op == 0) {
+            Vehicle v = randomVehicle();
+            fleet.add(v);
+            expectedFleet.add(v);
+            if (v.getYear() < CUTOFF) expectedView.add(v);
+        } else if (op == 1) {
+            Vehicle v = expectedFleet.get(random.nextInt(expectedFleet.size()));
+            assertTrue(fleet.remove(v));
+            int position = indexOf(expectedFleet, v);
+            Vehicle last = expectedFleet.remove(expectedFleet.size() - 1);
+            if (last != v) expectedFleet.set(position, last);
+            int joined = indexOf(expectedView, v);
+            if (joined >= 0) expectedView.remove(joined);
+        } else {
+            Vehicle previous    = expectedFleet.get(random.nextInt(expectedFleet.size()));
+            Vehicle replacement = randomVehicle();
+            assertTrue(fleet.replace(previous, replacement));
+            expectedFleet.set(indexOf(expectedFleet, previous), replacement);
+            int joined = indexOf(expectedView, previous);
+            if (joined >= 0 && replacement.getYear() < CUTOFF) {
+                expectedView.set(joined, replacement);
+            } else {
+                if (joined >= 0) expectedView.remove(joined);
+                if (replacement.getYear() < CUTOFF) expectedView.add(replacement);
+            }
+        }
+    }
+
+    // ── Fleet ────────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies fleet order and membership after random changes.
+     */
+    @Test
+    void testFleetMatchesReference() {
+        for (int i = 0; i < 20_000; i++) {
+            randomChange();
+            if (i % 1_000 == 0) assertSameVehicles(expectedFleet, fleet.vehicles());
+        }
+        assertSameVehicles(expectedFleet, fleet.vehicles());
+        for (Vehicle v : expectedFleet) assertTrue(fleet.contains(v));
+        assertFalse(fleet.contains(randomVehicle()));
+        assertEquals(expectedFleet.size(), fleet.size());
+    }
+
+    /**
+     * Verifies that vehicles are matched by identity and that invalid
+     * changes are rejected without changing the fleet.
+     */
+    @Test
+    void testIdentityAndInvalidChanges() {
+        Vehicle a = new Vehicle("Honda", "Civic", 1995, Color.RED);
+        Vehicle b = new Vehicle("Honda", "Civic", 1995, Color.RED);
+        fleet.add(a);
+        fleet.add(b);
+        assertThrows(IllegalArgumentException.class, () -> fleet.add(a));
+        assertThrows(IllegalArgumentException.class, () -> fleet.add(null));
+        assertThrows(IllegalArgumentException.class, () -> fleet.replace(a, b));
+        assertThrows(IllegalArgumentException.class, () -> fleet.replace(a, null));
+        assertThrows(IllegalArgumentException.class, () -> new VehicleFleet(List.of(a, a)));
+        assertThrows(UnsupportedOperationException.class, () -> fleet.vehicles().add(a));
+        assertSameVehicles(List.of(a, b), fleet.vehicles());
+
+        assertFalse(fleet.remove(new Vehicle("Honda", "Civic", 1995, Color.RED)));
+        assertFalse(fleet.replace(new Vehicle("Honda", "Civic", 1995, Color.RED), randomVehicle()));
+        assertTrue(fleet.replace(a, a));
+        assertTrue(fleet.remove(a));
+        assertFalse(fleet.remove(a));
+        assertSameVehicles(List.of(b), fleet.vehicles());
+    }
+
+    // ── View ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that the view follows the fleet through random changes, in
+     * join order, and always equals filtering the fleet.
+     */
+    @Test
+    void testViewMatchesReference() {
+        for (int i = 0; i < 500; i++) randomChange();
+        expectedView.clear();
+        for (Vehicle v : fleet.vehicles()) if (v.getYear() < CUTOFF) expectedView.add(v);
+
+        try (OlderVehiclesView view = new OlderVehiclesView(fleet, CUTOFF)) {
+            for (int i = 0; i < 20_000; i++) {
+                randomChange();
+                if (i % 500 == 0) {
+                    assertSameVehicles(expectedView, view.vehicles());
+                    Set<Vehicle> filtered = Collections.newSetFromMap(new IdentityHashMap<>());
+                    for (Vehicle v : fleet.vehicles()) if (v.getYear() < CUTOFF) filtered.add(v);
+                    assertEquals(filtered.size(), view.size());
+                    for (Vehicle v : view.vehicles()) assertTrue(filtered.contains(v));
+                    assertDescriptions(expectedView, view.descriptions());
+                }
+            }
+            assertSameVehicles(expectedView, view.vehicles());
+            assertDescriptions(expectedView, view.descriptions());
+            assertEquals(CUTOFF, view.cutoffYear());
+        }
+    }
+
+    /**
+     * Verifies that snapshots are shared until the next change, are
+     * read-only, and stop following the fleet once the view is closed.
+     */
+    @Test
+    void testViewSnapshots() {
+        for (int i = 0; i < 200; i++) randomChange();
+        OlderVehiclesView view = new OlderVehiclesView(fleet, CUTOFF);
+        List<Vehicle> first = view.vehicles();
+        assertSame(first, view.vehicles());
+        assertSame(view.descriptions(), view.descriptions());
+        assertThrows(UnsupportedOperationException.class, () -> first.add(randomVehicle()));
+
+        fleet.add(new Vehicle("Old", "Car", 1950, Color.BLACK));
+        assertNotSame(first, view.vehicles());
+        assertEquals(first.size() + 1, view.size());
+
+        view.close();
+        fleet.add(new Vehicle("Older", "Car", 1940, Color.BLACK));
+        assertEquals(first.size() + 1, view.size());
+        assertThrows(IllegalArgumentException.class, () -> new OlderVehiclesView(null, CUTOFF));
+    }
+}
@@ -0,0 +1,153 @@
+package problem2;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link VehicleQueryEngine}.
+ *
+ * <p>Every query is checked against testing each row of the store in turn
+ * with the same condition written as a plain lambda.</p>
+ */
+public class VehicleQueryEngineTest {
+
+    private VehicleColumns columns;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        columns = new VehicleColumns();
+        random  = new Random(21);
+        addRandomRows(5_000);
+    }
+
+    private void addRandomRows(int n) {
+        for (int i = 0; i < n; i++) {
+            String make  = random.nextInt(30) == 0 ? null : "Make" + random.nextInt(25);
+            // colors cluster in a few shades so that spheres cut through cells
+            Color  color = random.nextInt(15) == 0 ? null
+                    : new Color(Math.min(255, 40 * random.nextInt(7) + random.nextInt(20)),
+                                random.nextInt(256), random.nextInt(256));
+            columns.add(make, "Model", 1950 + random.nextInt(75), color);
+        }
+    }
+
+    private static Predicate<Vehicle> near(Color c, double maxDistance) {
+        return v -> {
+            Color o = v.getVehicleColor();
+            if (o == null) return false;
+            double dr = o.getRed() - c.getRed(), dg = o.getGreen() - c.getGreen(), db = o.getBlue() - c.getBlue();
+            return Math.sqrt(dr * dr + dg * dg + db * db) <= maxDistance;
+        };
+    }
+
+    /** Asserts that the engine finds exactly the rows {@code expected} accepts. */
+    private void assertMatches(VehicleQueryEngine engine, Predicate<Vehicle> expected,
+                               VehiclePredicate... predicates) {
+        List<Integer> rows = new ArrayList<>();
+        for (int row = 0; row < columns.size(); row++) if (expected.test(columns.get(row))) rows.add(row);
+        int[] found = engine.find(predicates);
+        assertEquals(rows.size(), found.length, () -> List.of(predicates).toString());
+        for (int i = 0; i < found.length; i++) assertEquals((int) rows.get(i), found[i]);
+        assertEquals(rows.size(), engine.count(predicates));
+    }
+
+    // ── Single predicates ────────────────────────────────────────────────────
+
+    /**
+     * Verifies make, year and color predicates alone, including a missing
+     * make, an unknown make and extreme years.
+     */
+    @Test
+    void testSinglePredicatesMatchScan() {
+        VehicleQueryEngine engine = new VehicleQueryEngine(columns);
+        assertMatches(engine, v -> true);
+        for (String make : new String[]{"Make3", "Make24", "Nope", null}) {
+            assertMatches(engine, v -> Objects.equals(make, v.getMake()), VehiclePredicate.makeIs(make));
+        }
+        assertMatches(engine, v -> v.getYear() >= 1980 && v.getYear() <= 1990,
+                VehiclePredicate.yearBetween(1980, 1990));
+        assertMatches(engine, v -> false, VehiclePredicate.yearBetween(1990, 1980));
+        assertMatches(engine, v -> v.getYear() < 1999, VehiclePredicate.yearBefore(1999));
+        assertMatches(engine, v -> false, VehiclePredicate.yearBefore(Integer.MIN_VALUE));
+        assertMatches(engine, v -> true, VehiclePredicate.yearBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Verifies color spheres of many radii against the exact distance,
+     * including radii that are zero, negative or not a number.
+     */
+    @Test
+    void testColorNearMatchesScan() {
+        VehicleQueryEngine engine = new VehicleQueryEngine(columns);
+        for (int i = 0; i < 40; i++) {
+            Color  c = new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+            double d = random.nextDouble() * (i % 4 == 0 ? 450 : 60);
+            assertMatches(engine, near(c, d), VehiclePredicate.colorNear(c, d));
+            assertTrue(engine.count(VehiclePredicate.colorNear(c, d)) <= VehiclePredicate.colorNear(c, d).estimate(engine));
+        }
+        Color c = columns.color(0) != null ? columns.color(0) : Color.RED;
+        assertMatches(engine, near(c, 0), VehiclePredicate.colorNear(c, 0));
+        assertMatches(engine, v -> false, VehiclePredicate.colorNear(c, -1));
+        assertMatches(engine, v -> false, VehiclePredicate.colorNear(c, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> VehiclePredicate.colorNear(null, 1));
+    }
+
+    // ── Combinations ─────────────────────────────────────────────────────────
+
+    /**
+     * Verifies random conjunctions of predicates, and that rows appended
+     * after the engine was built are found by the next query.
+     */
+    @Test
+    void testConjunctionsMatchScan() {
+        VehicleQueryEngine engine = new VehicleQueryEngine(columns);
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 30; i++) {
+                String make = "Make" + random.nextInt(25);
+                int    from = 1950 + random.nextInt(75);
+                int    to   = from + random.nextInt(20);
+                Color  c    = new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+                double d    = random.nextDouble() * 150;
+                assertMatches(engine,
+                        v -> make.equals(v.getMake()) && v.getYear() >= from && v.getYear() <= to,
+                        VehiclePredicate.makeIs(make), VehiclePredicate.yearBetween(from, to));
+                assertMatches(engine,
+                        v -> v.getYear() < to && near(c, d).test(v),
+                        VehiclePredicate.colorNear(c, d), VehiclePredicate.yearBefore(to));
+                assertMatches(engine,
+                        v -> make.equals(v.getMake()) && v.getYear() >= from && near(c, d).test(v),
+                        VehiclePredicate.yearBetween(from, Integer.MAX_VALUE),
+                        VehiclePredicate.colorNear(c, d), VehiclePredicate.makeIs(make));
+            }
+            addRandomRows(3_000);
+        }
+        assertEquals(columns.size(), engine.count());
+    }
+
+    /**
+     * Verifies that vehicles and descriptions follow the matching rows.
+     */
+    @Test
+    void testResultViews() {
+        VehicleQueryEngine engine = new VehicleQueryEngine(columns);
+        VehiclePredicate[] query = {VehiclePredicate.makeIs("Make7"), VehiclePredicate.yearBefore(1990)};
+        int[] rows = engine.find(query);
+        List<Vehicle> vehicles = engine.vehicles(query);
+        List<String>  lines    = engine.describe(query);
+        assertEquals(rows.length, vehicles.size());
+        assertEquals(rows.length, lines.size());
+        for (int i = 0; i < rows.length; i++) {
+            assertEquals(columns.describe(rows[i]), lines.get(i));
+            assertEquals(OlderVehiclesFilter.describe(vehicles.get(i)), lines.get(i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new VehicleQueryEngine(null));
+    }
+}
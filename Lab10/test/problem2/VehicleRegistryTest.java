@@ -0,0 +1,157 @@
+package problem2;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link VehicleRegistry}.
+ *
+ * <p>Every query is checked against scanning a plain list of the registered
+ * vehicles, and {@link VehicleRegistry#distinct()} against a
+ * {@link HashSet}, which keeps one vehicle per make under
+ * {@link Vehicle#equals}.</p>
+ */
+public class VehicleRegistryTest {
+
+    private static final String[] MAKES = {"Toyota", "Honda", "Ford", "Kia", null};
+
+    private VehicleRegistry registry;
+    private List<Vehicle> vehicles;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        registry = new VehicleRegistry();
+        vehicles = new ArrayList<>();
+        random   = new Random(37);
+    }
+
+    private Vehicle randomVehicle() {
+        return new Vehicle(MAKES[random.nextInt(MAKES.length)], "Model", 1960 + random.nextInt(60), Color.RED);
+    }
+
+    private void add(Vehicle v) {
+        registry.add(v);
+        vehicles.add(v);
+    }
+
+    private int referenceCount(String make, long fromYear, long toYear) {
+        int count = 0;
+        for (Vehicle v : vehicles) {
+            if (Objects.equals(make, v.getMake()) && v.getYear() >= fromYear && v.getYear() <= toYear) count++;
+        }
+        return count;
+    }
+
+    private void assertMatchesReference() {
+        assertEquals(vehicles.size(), registry.size());
+        int[] bounds = {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, 0, 1959, 1960, 1985, 2019, 2020,
+                        Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+        for (String make : new String[]{"Toyota", "Honda", "Ford", "Kia", null, "Nope"}) {
+            List<Vehicle> ofMake = new ArrayList<>();
+            SortedMap<Integer, Integer> histogram = new TreeMap<>();
+            for (Vehicle v : vehicles) {
+                if (!Objects.equals(make, v.getMake())) continue;
+                ofMake.add(v);
+                histogram.merge(v.getYear(), 1, Integer::sum);
+            }
+            assertEquals(ofMake, registry.ofMake(make));
+            for (int i = 0; i < ofMake.size(); i++) assertSame(ofMake.get(i), registry.ofMake(make).get(i));
+            assertEquals(ofMake.size(), registry.countOfMake(make));
+            assertEquals(histogram, registry.yearHistogram(make));
+            for (int from : bounds) {
+                for (int to : bounds) {
+                    assertEquals(referenceCount(make, from, to), registry.countOfMake(make, from, to),
+                            make + " [" + from + ", " + to + "]");
+                }
+            }
+        }
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies per-make lists, counts, histograms and year ranges, including
+     * extreme and reversed ranges, through random adds and removes.
+     */
+    @Test
+    void testQueriesMatchScan() {
+        assertMatchesReference();
+        for (int i = 0; i < 3_000; i++) add(randomVehicle());
+        assertMatchesReference();
+        while (vehicles.size() > 1_000) {
+            Vehicle v = vehicles.remove(random.nextInt(vehicles.size()));
+            assertTrue(registry.remove(v));
+        }
+        assertMatchesReference();
+        assertEquals(referenceCount("Toyota", Integer.MIN_VALUE, Integer.MIN_VALUE),
+                registry.countOfMake("Toyota", Integer.MIN_VALUE, Integer.MIN_VALUE));
+    }
+
+    /**
+     * Verifies that {@code contains} and {@code distinct} follow
+     * {@link Vehicle#equals}, as a {@link HashSet} would.
+     */
+    @Test
+    void testDistinctMatchesHashSet() {
+        for (int i = 0; i < 500; i++) add(randomVehicle());
+        Set<Vehicle> set = new HashSet<>(vehicles);
+        assertEquals(set, new HashSet<>(registry.distinct()));
+        assertEquals(set.size(), registry.distinct().size());
+        assertEquals(set.size(), registry.makes().size());
+        for (String make : MAKES) {
+            assertEquals(set.contains(new Vehicle(make, "X", 2000, null)),
+                    registry.contains(new Vehicle(make, "X", 2000, null)));
+        }
+        assertFalse(registry.contains(new Vehicle("Nope", "X", 2000, null)));
+        assertFalse(registry.contains(null));
+    }
+
+    // ── Updates ──────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies removal by identity, and that a make whose last vehicle is
+     * removed is no longer registered.
+     */
+    @Test
+    void testRemoveByIdentity() {
+        Vehicle a = new Vehicle("Toyota", "Camry", 1990, Color.RED);
+        add(a);
+        assertFalse(registry.remove(new Vehicle("Toyota", "Camry", 1990, Color.RED)));
+        assertFalse(registry.remove(null));
+        assertTrue(registry.remove(a));
+        vehicles.remove(a);
+        assertFalse(registry.remove(a));
+        assertFalse(registry.contains(a));
+        assertTrue(registry.makes().isEmpty());
+        assertMatchesReference();
+    }
+
+    /**
+     * Verifies that invalid vehicles and spans beyond
+     * {@link YearIndex#MAX_SPAN} are rejected without changing the registry.
+     */
+    @Test
+    void testRejectsInvalidVehicles() {
+        add(new Vehicle("Toyota", "Camry", 2000, Color.RED));
+        assertThrows(IllegalArgumentException.class, () -> registry.add(null));
+        assertThrows(IllegalArgumentException.class, () -> registry.add(new Vehicle("Toyota", "Camry", null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.add(new Vehicle("Toyota", "Camry", 2000 + YearIndex.MAX_SPAN, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.add(new Vehicle("Toyota", "Camry", Integer.MIN_VALUE, null)));
+        assertThrows(IllegalArgumentException.class, () -> new VehicleRegistry(null));
+        add(new Vehicle("Honda", "Civic", Integer.MIN_VALUE, null));
+        assertMatchesReference();
+    }
+}
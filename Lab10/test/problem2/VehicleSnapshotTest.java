@@ -0,0 +1,139 @@
+package problem2;
+
+import java.awt.Color;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link VehicleSnapshot}: round-trips field by field,
+ * including missing makes, models and colors, and rejection of damaged
+ * files.
+ */
+public class VehicleSnapshotTest {
+
+    private Path dir;
+    private Random random;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir    = Files.createTempDirectory("vehicles");
+        random = new Random(3);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) Files.delete(p);
+        }
+    }
+
+    /** @return vehicles with repeated and sometimes missing fields, including translucent colors */
+    private List<Vehicle> randomVehicles(int n) {
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            String make  = random.nextInt(20) == 0 ? null : "Make" + random.nextInt(50);
+            String model = random.nextInt(20) == 0 ? null : "Mod\u00e8le " + random.nextInt(500);
+            Color  color = random.nextInt(10) == 0 ? null : new Color(random.nextInt(), random.nextBoolean());
+            vehicles.add(new Vehicle(make, model, 1900 + random.nextInt(130), color));
+        }
+        return vehicles;
+    }
+
+    private static void assertRowsEqual(List<Vehicle> expected, VehicleColumns actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int row = 0; row < expected.size(); row++) {
+            Vehicle v = expected.get(row);
+            assertEquals(v.getMake(),         actual.make(row),  "row " + row);
+            assertEquals(v.getModel(),        actual.model(row), "row " + row);
+            assertEquals((int) v.getYear(),   actual.year(row),  "row " + row);
+            assertEquals(v.getVehicleColor(), actual.color(row), "row " + row);
+        }
+    }
+
+    // ── Round-trips ──────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that a list written and read back keeps every field of every
+     * row, in order.
+     */
+    @Test
+    void testListRoundTrip() throws IOException {
+        List<Vehicle> vehicles = randomVehicles(10_000);
+        Path file = dir.resolve("fleet.vfs");
+        VehicleSnapshot.write(vehicles, file);
+        assertRowsEqual(vehicles, VehicleSnapshot.read(file));
+    }
+
+    /**
+     * Verifies that a columnar store round-trips, that an empty fleet does,
+     * and that a snapshot filters the same as the list it came from.
+     */
+    @Test
+    void testColumnsRoundTrip() throws IOException {
+        List<Vehicle> vehicles = randomVehicles(2_000);
+        Path file = dir.resolve("columns.vfs");
+        VehicleSnapshot.write(VehicleColumns.of(vehicles), file);
+        VehicleColumns read = VehicleSnapshot.read(file);
+        assertRowsEqual(vehicles, read);
+        assertEquals(new OlderVehiclesFilter(vehicles).filterOlderVehicles(1970),
+                new OlderVehiclesFilter(read).filterOlderVehicles(1970));
+
+        VehicleSnapshot.write(new ArrayList<>(), file);
+        assertEquals(0, VehicleSnapshot.read(file).size());
+    }
+
+    // ── Damaged files ────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that truncated, extended and foreign files are rejected.
+     */
+    @Test
+    void testRejectsDamagedFiles() throws IOException {
+        Path file = dir.resolve("fleet.vfs");
+        VehicleSnapshot.write(randomVehicles(100), file);
+        byte[] bytes = Files.readAllBytes(file);
+
+        Path damaged = dir.resolve("damaged.vfs");
+        Files.write(damaged, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> VehicleSnapshot.read(damaged));
+        Files.write(damaged, Arrays.copyOf(bytes, bytes.length + 1));
+        assertThrows(IOException.class, () -> VehicleSnapshot.read(damaged));
+        Files.write(damaged, Arrays.copyOf(bytes, 10));
+        assertThrows(IOException.class, () -> VehicleSnapshot.read(damaged));
+        Files.write(damaged, "make,model,year\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> VehicleSnapshot.read(damaged));
+    }
+
+    /**
+     * Verifies that a row pointing outside the dictionary is rejected.
+     */
+    @Test
+    void testRejectsBadDictionaryCode() throws IOException {
+        Path file = dir.resolve("bad-code.vfs");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(0x56465331);
+            out.writeInt(1);        // rows
+            out.writeInt(0);        // makes
+            out.writeInt(0);        // models
+            out.writeInt(5);        // make code past the empty dictionary
+            out.writeInt(-1);
+            out.writeShort(2000);
+            out.writeInt(0);
+            out.writeByte(0);
+        }
+        assertThrows(IOException.class, () -> VehicleSnapshot.read(file));
+    }
+}
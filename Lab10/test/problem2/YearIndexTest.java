@@ -0,0 +1,138 @@
+package problem2;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link YearIndex}.
+ *
+ * <p>Every query is checked against filtering a plain list of the same
+ * vehicles. Vehicles are compared by identity, since {@link Vehicle#equals}
+ * looks only at the make.</p>
+ */
+public class YearIndexTest {
+
+    private YearIndex index;
+    private List<Vehicle> vehicles;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        index    = new YearIndex();
+        vehicles = new ArrayList<>();
+        random   = new Random(5);
+    }
+
+    private Vehicle randomVehicle() {
+        return new Vehicle("Make" + random.nextInt(3), "Model", 1950 + random.nextInt(75), Color.RED);
+    }
+
+    private void add(Vehicle v) {
+        index.add(v);
+        vehicles.add(v);
+    }
+
+    /** Asserts that {@code actual} holds exactly the vehicles of {@code fromYear..toYear}, by year. */
+    private void assertMatchesReference(List<Vehicle> actual, long fromYear, long toYear) {
+        Set<Vehicle> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Vehicle v : vehicles) {
+            if (v.getYear() >= fromYear && v.getYear() <= toYear) expected.add(v);
+        }
+        Set<Vehicle> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        found.addAll(actual);
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, found);
+        for (int i = 1; i < actual.size(); i++) {
+            assertTrue(actual.get(i - 1).getYear() <= actual.get(i).getYear());
+        }
+    }
+
+    private void assertQueriesMatch() {
+        for (int year = 1945; year <= 2030; year += 3) {
+            assertMatchesReference(index.before(year), Long.MIN_VALUE, year - 1L);
+            assertEquals(index.before(year).size(), index.countBefore(year));
+            int to = year + random.nextInt(20) - 5;
+            assertMatchesReference(index.between(year, to), year, to);
+            assertEquals(index.between(year, to).size(), index.countBetween(year, to));
+        }
+        assertEquals(vehicles.size(), index.size());
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies range queries against filtering a list, including years
+     * outside the indexed range.
+     */
+    @Test
+    void testQueriesMatchFiltering() {
+        assertQueriesMatch();
+        for (int i = 0; i < 5_000; i++) add(randomVehicle());
+        assertQueriesMatch();
+        assertEquals(new YearIndex(vehicles).countBefore(2000), index.countBefore(2000));
+    }
+
+    /**
+     * Verifies that extreme bounds do not overflow.
+     */
+    @Test
+    void testExtremeYears() {
+        for (int i = 0; i < 100; i++) add(randomVehicle());
+        assertTrue(index.before(Integer.MIN_VALUE).isEmpty());
+        assertEquals(0, index.countBefore(Integer.MIN_VALUE));
+        assertEquals(100, index.countBefore(Integer.MAX_VALUE));
+        assertEquals(100, index.countBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(0, index.countBetween(Integer.MAX_VALUE, Integer.MIN_VALUE));
+        assertTrue(new YearIndex().before(Integer.MAX_VALUE).isEmpty());
+    }
+
+    // ── Updates ──────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that removal goes by identity, leaves equal vehicles in place,
+     * and keeps queries in step with the list.
+     */
+    @Test
+    void testRemoveByIdentity() {
+        for (int i = 0; i < 2_000; i++) add(randomVehicle());
+        Vehicle twin = new Vehicle(vehicles.get(0).getMake(), "Model", vehicles.get(0).getYear(), Color.RED);
+        assertFalse(index.remove(twin));
+        assertFalse(index.remove(null));
+        assertFalse(index.remove(new Vehicle("Make0", "Model", 1800, Color.RED)));
+
+        while (vehicles.size() > 500) {
+            Vehicle v = vehicles.remove(random.nextInt(vehicles.size()));
+            assertTrue(index.remove(v));
+            assertFalse(index.remove(v));
+        }
+        assertQueriesMatch();
+    }
+
+    /**
+     * Verifies that invalid vehicles and years beyond {@link YearIndex#MAX_SPAN}
+     * are rejected without changing the index.
+     */
+    @Test
+    void testRejectsInvalidVehicles() {
+        add(new Vehicle("A", "B", 2000, Color.RED));
+        assertThrows(IllegalArgumentException.class, () -> index.add(null));
+        assertThrows(IllegalArgumentException.class, () -> index.add(new Vehicle("A", "B", null, Color.RED)));
+        assertThrows(IllegalArgumentException.class,
+                () -> index.add(new Vehicle("A", "B", 2000 + YearIndex.MAX_SPAN, Color.RED)));
+        assertThrows(IllegalArgumentException.class,
+                () -> index.add(new Vehicle("A", "B", Integer.MIN_VALUE, Color.RED)));
+        assertThrows(IllegalArgumentException.class, () -> new YearIndex(null));
+
+        add(new Vehicle("A", "B", 2000 + YearIndex.MAX_SPAN - 1, Color.RED));
+        assertEquals(2, index.size());
+        assertQueriesMatch();
+    }
+}
@@ -0,0 +1,273 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A fast parser for {@code students.txt} that memory-maps the file and
+ * tokenizes it byte by byte.
+ *
+ * <p>It accepts the same input as the original {@code readLine}/{@code split}
+ * loader: one student per line as {@code FirstName LastName StudentID Email},
+ * fields separated by runs of whitespace, extra fields ignored, blank lines
+ * skipped. Lines end at {@code \n}, {@code \r} or {@code \r\n}. The ID is
+ * accumulated digit by digit straight from the bytes, and the only objects
+ * created per line are the three field strings and the {@link Student}.
+ * A line with fewer than four fields, or whose ID is not a number that
+ * fits in an {@code int}, is reported as malformed and skipped. The file is
+ * read as UTF-8.</p>
+ *
+ * <p>{@link #load(String, int)} splits the file at line boundaries into
+ * segments that are parsed concurrently; the students and the malformed
+ * lines of each segment are collected separately and then concatenated in
+ * segment order, so the result and the messages are exactly those of a
+ * sequential load.</p>
+ *
+ * @author Ying Lu
+ */
+public class StudentFileParser {
+
+    /** Largest span mapped at once. */
+    private static final int MAX_WINDOW = 1 << 30;
+
+    /** Files smaller than this are always parsed on the calling thread. */
+    private static final long PARALLEL_THRESHOLD = 1 << 20;
+
+    private StudentFileParser() { }
+
+    /**
+     * Reads all student records from the given file path, printing
+     * {@code "Skipping malformed line: <line>"} for each malformed line.
+     *
+     * @param filePath the path to the student data file
+     * @return an ArrayList of {@link Student} objects in file order; empty if
+     *         the file is missing or unreadable
+     */
+    public static ArrayList<Student> load(String filePath) {
+        return load(filePath, 1);
+    }
+
+    /**
+     * Same as {@link #load(String)}, parsing up to {@code threads} segments
+     * of the file concurrently. The result and the malformed-line messages
+     * are identical to a sequential load, in the same order.
+     *
+     * @param filePath the path to the student data file
+     * @param threads  the number of segments and worker threads; must be positive
+     * @return an ArrayList of {@link Student} objects in file order; empty if
+     *         the file is missing or unreadable
+     * @throws IllegalArgumentException if {@code threads} is not positive
+     */
+    public static ArrayList<Student> load(String filePath, int threads) {
+        if (threads <= 0) throw new IllegalArgumentException("Thread count must be positive.");
+        File file = new File(filePath);
+        if (!file.exists()) {
+            System.out.println("Warning: " + filePath + " not found. Starting with empty list.");
+            return new ArrayList<>();
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (threads == 1 || size < PARALLEL_THRESHOLD) {
+                Segment all = new Segment(0, size);
+                all.parse(channel);
+                segments.add(all);
+            } else {
+                segments = parseConcurrently(channel, size, threads);
+            }
+        } catch (IOException e) {
+            System.out.println("Error reading file: " + e.getMessage());
+        }
+
+        int total = 0;
+        for (Segment s : segments) total += s.students.size();
+        ArrayList<Student> students = new ArrayList<>(total);
+        for (Segment s : segments) {
+            students.addAll(s.students);
+            for (String line : s.malformed) System.out.println("Skipping malformed line: " + line);
+        }
+        return students;
+    }
+
+    // ── Segments ─────────────────────────────────────────────────────────────
+
+    /** A run of whole lines and what parsing it produced. */
+    private static class Segment {
+        final long start;
+        final long end;
+        final List<Student> students  = new ArrayList<>();
+        final List<String>  malformed = new ArrayList<>();
+
+        Segment(long start, long end) {
+            this.start = start;
+            this.end   = end;
+        }
+
+        void parse(FileChannel channel) throws IOException {
+            parseRegion(channel, start, end, students, malformed);
+        }
+    }
+
+    private static List<Segment> parseConcurrently(FileChannel channel, long size, int threads)
+            throws IOException {
+        List<Segment> segments = new ArrayList<>(threads);
+        long start = 0;
+        for (int i = 1; i <= threads && start < size; i++) {
+            long end = i == threads ? size : nextLineStart(channel, size * i / threads, size);
+            if (end > start) segments.add(new Segment(start, end));
+            start = Math.max(start, end);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(segments.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>(segments.size());
+            for (Segment s : segments) {
+                futures.add(pool.submit(() -> {
+                    s.parse(channel);
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading students.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            throw new IOException(cause);
+        } finally {
+            pool.shutdown();
+        }
+        return segments;
+    }
+
+    /** @return the offset just after the first line break at or after {@code from}, or {@code size} */
+    private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(4096);
+        long pos = from;
+        while (pos < size) {
+            buf.clear();
+            int read = channel.read(buf, pos);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                byte b = buf.get(i);
+                if (b == '\n' || b == '\r') return pos + i + 1;
+            }
+            pos += read;
+        }
+        return size;
+    }
+
+    // ── Parsing ──────────────────────────────────────────────────────────────
+
+    /**
+     * Parses the lines in bytes {@code [start, end)} of {@code channel},
+     * which must begin at the start of a line and end at the end of one (or
+     * of the file).
+     *
+     * @param channel   the open file
+     * @param start     the first byte of the region
+     * @param end       the byte after the region
+     * @param students  receives the parsed students, in file order
+     * @param malformed receives the trimmed text of each malformed line, in file order
+     * @throws IOException if the file cannot be mapped
+     */
+    static void parseRegion(FileChannel channel, long start, long end,
+                            List<Student> students, List<String> malformed) throws IOException {
+        LineParser parser = new LineParser();
+        long pos = start;
+        while (pos < end) {
+            int span = (int) Math.min(end - pos, MAX_WINDOW);
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos, span);
+            boolean last = pos + span == end;
+            int lineStart = 0;
+            for (int i = 0; i < span; i++) {
+                byte b = buf.get(i);
+                if (b == '\n' || b == '\r') {
+                    parser.parse(buf, lineStart, i, students, malformed);
+                    lineStart = i + 1;
+                }
+            }
+            if (last && lineStart < span) {
+                parser.parse(buf, lineStart, span, students, malformed);
+                lineStart = span;
+            } else if (!last && lineStart == 0) {
+                throw new IOException("A line is longer than " + MAX_WINDOW + " bytes.");
+            }
+            pos += lineStart;   // remap from the start of the unfinished line
+        }
+    }
+
+    /** Parses single lines, reusing one scratch buffer for decoding fields. */
+    private static class LineParser {
+        private final int[] bounds = new int[8];   // start/end of the first four fields
+        private byte[] scratch = new byte[64];
+
+        void parse(MappedByteBuffer buf, int start, int end, List<Student> students, List<String> malformed) {
+            int fields = 0;
+            int i = start;
+            while (fields < 4) {
+                while (i < end && isSpace(buf.get(i))) i++;
+                if (i == end) break;
+                bounds[2 * fields] = i;
+                while (i < end && !isSpace(buf.get(i))) i++;
+                bounds[2 * fields + 1] = i;
+                fields++;
+            }
+            if (fields == 0) return;   // blank line
+
+            long id = fields == 4 ? parseID(buf, bounds[4], bounds[5]) : Long.MIN_VALUE;
+            if (id == Long.MIN_VALUE) {
+                malformed.add(text(buf, start, end).trim());
+                return;
+            }
+            students.add(new Student(text(buf, bounds[0], bounds[1]),
+                                     text(buf, bounds[2], bounds[3]),
+                                     (int) id,
+                                     text(buf, bounds[6], bounds[7])));
+        }
+
+        /** @return the ID, or {@link Long#MIN_VALUE} if it is not an {@code int} */
+        private static long parseID(MappedByteBuffer buf, int start, int end) {
+            boolean negative = false;
+            int i = start;
+            byte sign = buf.get(i);
+            if (sign == '-' || sign == '+') {
+                negative = sign == '-';
+                i++;
+            }
+            if (i == end || end - i > 10) return Long.MIN_VALUE;
+            long value = 0;
+            for (; i < end; i++) {
+                int digit = buf.get(i) - '0';
+                if (digit < 0 || digit > 9) return Long.MIN_VALUE;
+                value = value * 10 + digit;
+            }
+            if (negative) value = -value;
+            return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? Long.MIN_VALUE : value;
+        }
+
+        private String text(MappedByteBuffer buf, int start, int end) {
+            int length = end - start;
+            if (scratch.length < length) scratch = new byte[Math.max(length, scratch.length * 2)];
+            buf.get(start, scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /** The characters matched by the regex {@code \s}. */
+        private static boolean isSpace(byte b) {
+            return b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r';
+        }
+    }
+}
@@ -0,0 +1,155 @@
+import java.util.List;
+
+/**
+ * A hash index from student ID to {@link Student}, kept alongside the
+ * student list so that lookups, duplicate checks and removals by ID do not
+ * scan the list.
+ *
+ * <p>IDs are stored as primitive {@code int}s in an open-addressing table
+ * with linear probing, so no {@code Integer} is ever boxed. Removal uses
+ * backward-shift deletion instead of tombstones, so lookups stay short
+ * however many students come and go. Each ID maps to at most one student:
+ * like {@link StudentReader#findByID}, the index keeps the first student
+ * added with a given ID.</p>
+ *
+ * <p>The index only replaces the search by ID: removing a student from the
+ * list itself still shifts the rest of the list to keep file order.</p>
+ *
+ * <p>A student is indexed under the ID it had when added; remove it before
+ * calling {@link Student#setStudentID} and add it again afterwards.</p>
+ *
+ * @author Ying Lu
+ */
+public class StudentIndex {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Student IDs; a slot is empty when its {@link #students} entry is {@code null}. */
+    private int[]     ids;
+    private Student[] students;
+    private int       size;
+
+    /** Constructs an empty index. */
+    public StudentIndex() {
+        ids      = new int[DEFAULT_CAPACITY];
+        students = new Student[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Constructs an index over every student in {@code list}; where IDs
+     * repeat, the first student wins.
+     *
+     * @param list the students to index; must not be null
+     * @throws IllegalArgumentException if {@code list} is null
+     */
+    public StudentIndex(List<Student> list) {
+        if (list == null) throw new IllegalArgumentException("Student list must not be null.");
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < list.size() * 2) capacity <<= 1;
+        ids      = new int[capacity];
+        students = new Student[capacity];
+        for (Student s : list) add(s);
+    }
+
+    // ── Updates ──────────────────────────────────────────────────────────────
+
+    /**
+     * Indexes a student under its ID, unless the ID is already indexed.
+     *
+     * @param student the student; must not be null
+     * @return {@code true} if added, {@code false} if its ID was already present
+     * @throws IllegalArgumentException if {@code student} is null
+     */
+    public boolean add(Student student) {
+        if (student == null) throw new IllegalArgumentException("Student must not be null.");
+        int id   = student.getStudentID();
+        int slot = find(id);
+        if (students[slot] != null) return false;
+        ids[slot]      = id;
+        students[slot] = student;
+        if (++size * 2 > students.length) resize();
+        return true;
+    }
+
+    /**
+     * Removes the student indexed under {@code id}.
+     *
+     * @param id the student ID
+     * @return the removed student, or {@code null} if the ID was not indexed
+     */
+    public Student remove(int id) {
+        int slot = find(id);
+        Student removed = students[slot];
+        if (removed == null) return null;
+
+        // backward-shift: pull later entries of the probe run into the gap
+        int mask = students.length - 1;
+        int gap  = slot;
+        for (int next = (gap + 1) & mask; students[next] != null; next = (next + 1) & mask) {
+            int home = hash(ids[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                ids[gap]      = ids[next];
+                students[gap] = students[next];
+                gap = next;
+            }
+        }
+        students[gap] = null;
+        size--;
+        return removed;
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────
+
+    /**
+     * @param id the student ID
+     * @return the student indexed under {@code id}, or {@code null} if none
+     */
+    public Student get(int id) {
+        return students[find(id)];
+    }
+
+    /**
+     * @param id the student ID
+     * @return {@code true} if a student is indexed under {@code id}
+     */
+    public boolean containsID(int id) {
+        return students[find(id)] != null;
+    }
+
+    /** @return the number of indexed students */
+    public int size() { return size; }
+
+    // ── Internals ────────────────────────────────────────────────────────────
+
+    /** @return the slot holding {@code id}, or the empty slot where it would go */
+    private int find(int id) {
+        int mask = students.length - 1;
+        int slot = hash(id) & mask;
+        while (students[slot] != null && ids[slot] != id) slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    /** Spreads sequential IDs across the table (murmur3 finalizer). */
+    private static int hash(int id) {
+        int h = id;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private void resize() {
+        int[]     oldIds      = ids;
+        Student[] oldStudents = students;
+        ids      = new int[oldStudents.length << 1];
+        students = new Student[oldStudents.length << 1];
+        for (int i = 0; i < oldStudents.length; i++) {
+            if (oldStudents[i] == null) continue;
+            int slot = find(oldIds[i]);
+            ids[slot]      = oldIds[i];
+            students[slot] = oldStudents[i];
+        }
+    }
+}
@@ -0,0 +1,271 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * An append-only log of student additions and removals, so that each
+ * change costs one short write instead of rewriting {@code students.txt}.
+ *
+ * <p>Each change is one line:</p>
+ * <ul>
+ *   <li>{@code + FirstName LastName StudentID Email} — a student was added</li>
+ *   <li>{@code - StudentID} — the student with that ID was removed</li>
+ * </ul>
+ *
+ * <p>{@link #replay} applies the log to a freshly loaded student list, and
+ * {@link #compact} writes the current list as a new snapshot and empties
+ * the log. Replay is idempotent — an add whose ID is already present is
+ * skipped and a remove of an absent ID does nothing — so a crash between
+ * writing the snapshot and emptying the log loses nothing; only the
+ * position of a re-added student in the list may change. This holds while
+ * the snapshot holds each ID once: if a hand-edited file repeats an ID,
+ * every replay of a remove drops one more copy.</p>
+ *
+ * <p>Writes go straight to the file. With {@code syncEvery} set to
+ * {@code n}, the log is forced to the storage device after every
+ * {@code n} records, trading durability of the last few records for
+ * fewer fsyncs; {@code 0} leaves flushing to the operating system.</p>
+ *
+ * @author Ying Lu
+ */
+public class StudentLog implements Closeable {
+
+    private final FileChannel channel;
+    private final int         syncEvery;
+
+    /** Records written since the last fsync. */
+    private int unsynced;
+
+    /**
+     * Opens {@code logPath} for appending, creating it if needed.
+     *
+     * <p>A final record without a line break was torn by a crash and is
+     * ignored by {@link #replay}; it is cut off here so that the next record
+     * starts on a fresh line instead of being glued onto the fragment.</p>
+     *
+     * @param logPath   the path to the log file
+     * @param syncEvery force the log to disk after this many records;
+     *                  {@code 0} never forces it explicitly
+     * @throws IOException if the file cannot be opened
+     * @throws IllegalArgumentException if {@code syncEvery} is negative
+     */
+    public StudentLog(String logPath, int syncEvery) throws IOException {
+        if (syncEvery < 0) throw new IllegalArgumentException("Sync interval must not be negative.");
+        Path path = Paths.get(logPath);
+        truncateTornTail(path);
+        this.channel   = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.syncEvery = syncEvery;
+    }
+
+    /** Truncates the log at {@code path}, if it exists, to just after its last line break. */
+    private static void truncateTornTail(Path path) throws IOException {
+        if (!Files.exists(path)) return;
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = file.size();
+            long end  = size;
+            ByteBuffer buf = ByteBuffer.allocate(4096);
+            while (end > 0) {
+                int  chunk = (int) Math.min(buf.capacity(), end);
+                long from  = end - chunk;
+                buf.clear().limit(chunk);
+                while (buf.hasRemaining()) {
+                    if (file.read(buf, from + buf.position()) < 0) throw new EOFException("Log shrank while opening.");
+                }
+                int i = chunk - 1;
+                while (i >= 0 && buf.get(i) != '\n') i--;
+                if (i >= 0) {
+                    end = from + i + 1;
+                    break;
+                }
+                end = from;
+            }
+            if (end < size) {
+                file.truncate(end);
+                file.force(false);
+            }
+        }
+    }
+
+    // ── Appending ────────────────────────────────────────────────────────────
+
+    /**
+     * Records that {@code student} was added.
+     *
+     * @param student the added student
+     * @throws IOException if the record cannot be written
+     */
+    public void appendAdd(Student student) throws IOException {
+        append("+ " + student.toFileString());
+    }
+
+    /**
+     * Records that the student with ID {@code studentID} was removed.
+     *
+     * @param studentID the removed student's ID
+     * @throws IOException if the record cannot be written
+     */
+    public void appendRemove(int studentID) throws IOException {
+        append("- " + studentID);
+    }
+
+    private void append(String record) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap((record + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buf.hasRemaining()) channel.write(buf);
+        if (syncEvery > 0 && ++unsynced >= syncEvery) sync();
+    }
+
+    /**
+     * Forces every record written so far to the storage device.
+     *
+     * @throws IOException if the log cannot be forced
+     */
+    public void sync() throws IOException {
+        channel.force(false);
+        unsynced = 0;
+    }
+
+    /**
+     * @return the current size of the log in bytes
+     * @throws IOException if the size cannot be read
+     */
+    public long size() throws IOException {
+        return channel.size();
+    }
+
+    // ── Compaction ───────────────────────────────────────────────────────────
+
+    /**
+     * Writes {@code students} as a new snapshot at {@code snapshotPath} and
+     * empties the log.
+     *
+     * <p>The snapshot is written to a temporary file and then moved over
+     * {@code snapshotPath}, so a crash never leaves a half-written snapshot.</p>
+     *
+     * @param students     the current list of students
+     * @param snapshotPath the path to the student data file
+     * @throws IOException if the snapshot cannot be written or the log emptied
+     */
+    public void compact(ArrayList<Student> students, String snapshotPath) throws IOException {
+        Path snapshot = Paths.get(snapshotPath).toAbsolutePath();
+        Path temp = Files.createTempFile(snapshot.getParent(), snapshot.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Student s : students) {
+                    writer.write(s.toFileString());
+                    writer.newLine();
+                }
+            }
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                out.force(true);
+            }
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        channel.truncate(0);
+        sync();
+    }
+
+    /**
+     * Forces outstanding records to disk and closes the log.
+     *
+     * @throws IOException if the log cannot be forced or closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (unsynced > 0) sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    // ── Replay ───────────────────────────────────────────────────────────────
+
+    /**
+     * Applies every record in {@code logPath} to {@code students}, in order.
+     *
+     * <p>Malformed records are reported and skipped, as malformed lines are
+     * by {@link StudentReader#loadStudents}. A final line without a line
+     * break is a record torn by a crash and is ignored.</p>
+     *
+     * @param logPath  the path to the log file; a missing file is an empty log
+     * @param students the list loaded from the snapshot, updated in place
+     * @return the number of records applied
+     */
+    public static int replay(String logPath, ArrayList<Student> students) {
+        File file = new File(logPath);
+        if (!file.exists()) return 0;
+
+        StudentIndex index = new StudentIndex(students);
+        boolean hasDuplicates = index.size() != students.size();
+        Set<Student> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        int applied = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(file), StandardCharsets.UTF_8))) {
+            StringBuilder line = new StringBuilder();
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (c != '\n') {
+                    line.append((char) c);
+                    continue;
+                }
+                if (apply(line.toString().trim(), students, index, removed, hasDuplicates)) applied++;
+                line.setLength(0);
+            }
+            if (line.length() > 0) System.out.println("Ignoring incomplete log record: " + line);
+        } catch (IOException e) {
+            System.out.println("Error reading log: " + e.getMessage());
+        }
+
+        // removals are applied in one pass at the end instead of one shift each
+        if (!removed.isEmpty()) students.removeIf(removed::contains);
+        return applied;
+    }
+
+    private static boolean apply(String record, ArrayList<Student> students, StudentIndex index,
+                                 Set<Student> removed, boolean hasDuplicates) {
+        if (record.isEmpty()) return false;
+        String[] parts = record.split("\\s+");
+        try {
+            if (parts[0].equals("+") && parts.length >= 5) {
+                Student s = new Student(parts[1], parts[2], Integer.parseInt(parts[3]), parts[4]);
+                if (!index.add(s)) return false;
+                students.add(s);
+                return true;
+            }
+            if (parts[0].equals("-") && parts.length >= 2) {
+                int id = Integer.parseInt(parts[1]);
+                Student s = index.remove(id);
+                if (s == null) return false;
+                removed.add(s);
+                if (hasDuplicates) {
+                    // the snapshot held this ID more than once: the next one becomes current
+                    for (Student other : students) {
+                        if (other.getStudentID() == id && !removed.contains(other)) {
+                            index.add(other);
+                            break;
+                        }
+                    }
+                }
+                return true;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the malformed-record message
+        }
+        System.out.println("Skipping malformed log record: " + record);
+        return false;
+    }
+}
@@ -1,5 +1,6 @@
 import java.io.*;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -7,14 +8,30 @@ import java.util.Scanner;
  * in {@code students.txt}.
  *
  * <p>On startup the program loads all students from the file into an
- * {@link ArrayList}. The user is then presented with a menu offering three
- * operations:</p>
+ * {@link ArrayList}, in file order, and builds a {@link StudentIndex} and a
+ * {@link StudentSearchIndex} over it so that the menu operations find
+ * students without scanning the list. The user is then presented with a
+ * menu offering these operations:</p>
  * <ol>
  *   <li><b>Add</b> a new student (updates the file and prints the new list)</li>
  *   <li><b>Remove</b> a student by ID (updates the file)</li>
  *   <li><b>Search</b> for a student by ID</li>
+ *   <li><b>Search</b> by last-name prefix</li>
+ *   <li><b>Search</b> by first-name prefix</li>
+ *   <li><b>Search</b> by email address</li>
  * </ol>
  *
+ * <p>By default every change rewrites {@code students.txt}. Started with
+ * {@code --log}, the program instead appends each change to
+ * {@code students.log} (see {@link StudentLog}), replays that log on
+ * startup, and compacts it into a fresh {@code students.txt} once the log
+ * outgrows the snapshot and again on exit. {@code --sync-every N} forces
+ * the log to disk after every {@code N} changes (default 1; 0 leaves it
+ * to the operating system).</p>
+ *
+ * <p>{@code --threads N} parses the student file in {@code N} segments
+ * concurrently; see {@link StudentFileParser#load(String, int)}.</p>
+ *
  * @author Ying Lu
  */
 public class StudentReader {
@@ -22,14 +39,55 @@ public class StudentReader {
     /** Path to the student data file. */
     private static final String FILE_PATH = "students.txt";
 
+    /** Path to the change log used with {@code --log}. */
+    private static final String LOG_PATH = "students.log";
+
+    /** Log size below which compaction is never triggered, in bytes. */
+    private static final long MIN_COMPACT_BYTES = 64 * 1024;
+
+    /** The open change log, or {@code null} when every change rewrites the file. */
+    private static StudentLog log;
+
     /**
      * Entry point. Loads students from file, prints the initial list,
      * then runs the interactive menu loop.
      *
-     * @param args command-line arguments (not used)
+     * @param args optional {@code --log}, {@code --sync-every N} and {@code --threads N}
      */
     public static void main(String[] args) {
-        ArrayList<Student> students = loadStudents(FILE_PATH);
+        boolean useLog    = false;
+        int     syncEvery = 1;
+        int     threads   = 1;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--log")) {
+                    useLog = true;
+                } else if (args[i].equals("--sync-every") && i + 1 < args.length) {
+                    syncEvery = Integer.parseInt(args[++i]);
+                    if (syncEvery < 0) throw new NumberFormatException();
+                } else if (args[i].equals("--threads") && i + 1 < args.length) {
+                    threads = Integer.parseInt(args[++i]);
+                    if (threads <= 0) throw new NumberFormatException();
+                } else {
+                    throw new NumberFormatException();
+                }
+            }
+        } catch (NumberFormatException e) {
+            printUsage();
+            return;
+        }
+
+        ArrayList<Student> students = loadStudents(FILE_PATH, threads);
+        if (useLog) {
+            replayLog(LOG_PATH, students);
+            try {
+                log = new StudentLog(LOG_PATH, syncEvery);
+            } catch (IOException e) {
+                System.out.println("Error opening log: " + e.getMessage() + ". Rewriting the file instead.");
+            }
+        }
+        StudentIndex       index  = new StudentIndex(students);
+        StudentSearchIndex search = new StudentSearchIndex(students);
 
         System.out.println("=== Student Database Loaded ===");
         printStudents(students);
@@ -44,20 +102,30 @@ public class StudentReader {
 
             switch (input) {
                 case "1":
-                    addStudent(students, scanner);
+                    addStudent(students, index, search, scanner);
                     break;
                 case "2":
-                    removeStudent(students, scanner);
+                    removeStudent(students, index, search, scanner);
                     break;
                 case "3":
-                    searchStudent(students, scanner);
+                    searchStudent(students, index, scanner);
                     break;
                 case "4":
+                    searchByLastName(search, scanner);
+                    break;
+                case "5":
+                    searchByFirstName(search, scanner);
+                    break;
+                case "6":
+                    searchByEmail(search, scanner);
+                    break;
+                case "7":
+                    closeLog(students);
                     System.out.println("Goodbye!");
                     running = false;
                     break;
                 default:
-                    System.out.println("Invalid choice. Please enter 1, 2, 3, or 4.");
+                    System.out.println("Invalid choice. Please enter a number from 1 to 7.");
             }
         }
         scanner.close();
@@ -70,42 +138,52 @@ public class StudentReader {
      * as an {@link ArrayList}.
      *
      * <p>Each non-blank line must follow the format:
-     * {@code FirstName LastName StudentID Email}</p>
+     * {@code FirstName LastName StudentID Email}. Lines with fewer fields
+     * or a non-numeric ID are reported and skipped. The file is parsed by
+     * {@link StudentFileParser}, which memory-maps it and tokenizes bytes
+     * directly.</p>
      *
      * @param filePath the path to the student data file
      * @return an ArrayList of {@link Student} objects; empty if file is missing
      */
     public static ArrayList<Student> loadStudents(String filePath) {
-        ArrayList<Student> students = new ArrayList<>();
-        File file = new File(filePath);
-        if (!file.exists()) {
-            System.out.println("Warning: " + filePath + " not found. Starting with empty list.");
-            return students;
-        }
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) continue;
+        return StudentFileParser.load(filePath);
+    }
 
-                String[] parts = line.split("\\s+"); // split on whitespace
-                if (parts.length < 4) {
-                    System.out.println("Skipping malformed line: " + line);
-                    continue;
-                }
-                String firstName = parts[0];
-                String lastName  = parts[1];
-                int    studentID = Integer.parseInt(parts[2]);
-                String email     = parts[3];
-                students.add(new Student(firstName, lastName, studentID, email));
-            }
-        } catch (IOException e) {
-            System.out.println("Error reading file: " + e.getMessage());
-        }
+    /**
+     * Loads the snapshot at {@code filePath} and then replays the change log
+     * at {@code logPath} on top of it.
+     *
+     * @param filePath the path to the student data file
+     * @param logPath  the path to the change log; a missing log is empty
+     * @return an ArrayList of {@link Student} objects reflecting every logged change
+     */
+    public static ArrayList<Student> loadStudents(String filePath, String logPath) {
+        ArrayList<Student> students = loadStudents(filePath);
+        replayLog(logPath, students);
         return students;
     }
 
+    /**
+     * Same as {@link #loadStudents(String)}, parsing the file in
+     * {@code threads} segments concurrently. The students and any
+     * malformed-line messages come out in file order, exactly as from a
+     * sequential load.
+     *
+     * @param filePath the path to the student data file
+     * @param threads  the number of segments and worker threads; must be positive
+     * @return an ArrayList of {@link Student} objects; empty if file is missing
+     */
+    public static ArrayList<Student> loadStudents(String filePath, int threads) {
+        return StudentFileParser.load(filePath, threads);
+    }
+
+    /** Replays the change log onto {@code students} and reports how much was applied. */
+    private static void replayLog(String logPath, ArrayList<Student> students) {
+        int applied = StudentLog.replay(logPath, students);
+        if (applied > 0) System.out.println("Replayed " + applied + " logged change(s).");
+    }
+
     /**
      * Writes all students in the list back to the file, overwriting its
      * previous content.
@@ -131,9 +209,12 @@ public class StudentReader {
      * updates the file, and prints the updated list.
      *
      * @param students the current list of students
+     * @param index    the ID index over {@code students}
+     * @param search   the name and email index over {@code students}
      * @param scanner  the scanner reading user input
      */
-    public static void addStudent(ArrayList<Student> students, Scanner scanner) {
+    public static void addStudent(ArrayList<Student> students, StudentIndex index,
+                                  StudentSearchIndex search, Scanner scanner) {
         System.out.print("Enter first name: ");
         String firstName = scanner.nextLine().trim();
 
@@ -150,7 +231,7 @@ public class StudentReader {
         }
 
         // Check for duplicate ID
-        if (findByID(students, studentID) != null) {
+        if (index.containsID(studentID)) {
             System.out.println("Error: A student with ID " + studentID + " already exists.");
             return;
         }
@@ -160,7 +241,9 @@ public class StudentReader {
 
         Student newStudent = new Student(firstName, lastName, studentID, email);
         students.add(newStudent);
-        saveStudents(students, FILE_PATH);
+        index.add(newStudent);
+        search.add(newStudent);
+        persistAdd(students, newStudent);
 
         System.out.println("\nStudent added successfully!");
         printStudents(students);
@@ -170,10 +253,18 @@ public class StudentReader {
      * Prompts the user for a student ID, removes the matching student from
      * the list, and updates the file.
      *
+     * <p>The student is found through {@code index}, but the list keeps file
+     * order, so removing from it still costs one pass to find the student's
+     * position and one {@code arraycopy} to close the gap: {@code O(n)},
+     * not {@code O(1)}.</p>
+     *
      * @param students the current list of students
+     * @param index    the ID index over {@code students}
+     * @param search   the name and email index over {@code students}
      * @param scanner  the scanner reading user input
      */
-    public static void removeStudent(ArrayList<Student> students, Scanner scanner) {
+    public static void removeStudent(ArrayList<Student> students, StudentIndex index,
+                                     StudentSearchIndex search, Scanner scanner) {
         System.out.print("Enter student ID to remove: ");
         int targetID;
         try {
@@ -183,14 +274,31 @@ public class StudentReader {
             return;
         }
 
-        Student toRemove = findByID(students, targetID);
+        boolean hadDuplicates = index.size() != students.size();
+        Student toRemove = index.remove(targetID);
         if (toRemove == null) {
             System.out.println("Error: No student with ID " + targetID + " found.");
             return;
         }
 
-        students.remove(toRemove);
-        saveStudents(students, FILE_PATH);
+        // one identity pass finds the position and, if the file held this ID
+        // more than once, the next student with it, which becomes searchable
+        int position = -1;
+        Student next = null;
+        for (int i = 0; i < students.size(); i++) {
+            Student s = students.get(i);
+            if (s == toRemove) {
+                position = i;
+                if (!hadDuplicates) break;
+            } else if (position >= 0 && s.getStudentID() == targetID) {
+                next = s;
+                break;
+            }
+        }
+        students.remove(position); // shifts the tail to keep file order
+        search.remove(toRemove);
+        if (next != null) index.add(next);
+        persistRemove(students, targetID);
         System.out.println("Student with ID " + targetID + " removed successfully.");
     }
 
@@ -199,9 +307,10 @@ public class StudentReader {
      * details, or an error message if not found.
      *
      * @param students the current list of students
+     * @param index    the ID index over {@code students}
      * @param scanner  the scanner reading user input
      */
-    public static void searchStudent(ArrayList<Student> students, Scanner scanner) {
+    public static void searchStudent(ArrayList<Student> students, StudentIndex index, Scanner scanner) {
         System.out.print("Enter student ID to search: ");
         int targetID;
         try {
@@ -211,7 +320,7 @@ public class StudentReader {
             return;
         }
 
-        Student found = findByID(students, targetID);
+        Student found = index.get(targetID);
         if (found == null) {
             System.out.println("Error: No student with ID " + targetID + " exists in the database.");
         } else {
@@ -222,10 +331,99 @@ public class StudentReader {
         }
     }
 
+    /**
+     * Prompts the user for the start of a last name and lists every student
+     * whose last name begins with it, ignoring case.
+     *
+     * @param search  the name and email index over the students
+     * @param scanner the scanner reading user input
+     */
+    public static void searchByLastName(StudentSearchIndex search, Scanner scanner) {
+        System.out.print("Enter the start of the last name: ");
+        printMatches(search.byLastNamePrefix(scanner.nextLine().trim()));
+    }
+
+    /**
+     * Prompts the user for the start of a first name and lists every student
+     * whose first name begins with it, ignoring case.
+     *
+     * @param search  the name and email index over the students
+     * @param scanner the scanner reading user input
+     */
+    public static void searchByFirstName(StudentSearchIndex search, Scanner scanner) {
+        System.out.print("Enter the start of the first name: ");
+        printMatches(search.byFirstNamePrefix(scanner.nextLine().trim()));
+    }
+
+    /**
+     * Prompts the user for an email address and lists the students with
+     * exactly that address, ignoring case.
+     *
+     * @param search  the name and email index over the students
+     * @param scanner the scanner reading user input
+     */
+    public static void searchByEmail(StudentSearchIndex search, Scanner scanner) {
+        System.out.print("Enter email: ");
+        printMatches(search.byEmail(scanner.nextLine().trim()));
+    }
+
+    // ── Persistence ──────────────────────────────────────────────────────────
+
+    /** Persists an added student: one log record, or a full rewrite without a log. */
+    private static void persistAdd(ArrayList<Student> students, Student added) {
+        if (log == null) {
+            saveStudents(students, FILE_PATH);
+            return;
+        }
+        try {
+            log.appendAdd(added);
+            compactIfDue(students);
+        } catch (IOException e) {
+            System.out.println("Error writing log: " + e.getMessage());
+        }
+    }
+
+    /** Persists a removal: one log record, or a full rewrite without a log. */
+    private static void persistRemove(ArrayList<Student> students, int studentID) {
+        if (log == null) {
+            saveStudents(students, FILE_PATH);
+            return;
+        }
+        try {
+            log.appendRemove(studentID);
+            compactIfDue(students);
+        } catch (IOException e) {
+            System.out.println("Error writing log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Compacts the log once it is larger than the snapshot, so the cost of
+     * rewriting the snapshot is spread over at least as many bytes of changes.
+     */
+    private static void compactIfDue(ArrayList<Student> students) throws IOException {
+        if (log.size() > Math.max(MIN_COMPACT_BYTES, new File(FILE_PATH).length())) {
+            log.compact(students, FILE_PATH);
+        }
+    }
+
+    /** Compacts and closes the log, if one is open. */
+    private static void closeLog(ArrayList<Student> students) {
+        if (log == null) return;
+        try {
+            log.compact(students, FILE_PATH);
+            log.close();
+        } catch (IOException e) {
+            System.out.println("Error compacting log: " + e.getMessage());
+        }
+        log = null;
+    }
+
     // ── Helpers ──────────────────────────────────────────────────────────────
 
     /**
-     * Searches the list for a student with the given ID.
+     * Searches the list for a student with the given ID by scanning it; the
+     * menu operations use a {@link StudentIndex} instead.
      *
      * @param students the list to search
      * @param id       the target student ID
@@ -261,6 +459,30 @@ public class StudentReader {
         System.out.println();
     }
 
+    /**
+     * Prints the students found by a search, or a message if there are none.
+     *
+     * @param matches the students found
+     */
+    private static void printMatches(List<Student> matches) {
+        if (matches.isEmpty()) {
+            System.out.println("No matching students found.");
+            return;
+        }
+        System.out.println(matches.size() + " matching student(s):");
+        printStudents(new ArrayList<>(matches));
+    }
+
+    /**
+     * Prints the accepted command-line options to the console.
+     */
+    private static void printUsage() {
+        System.out.println("Usage: java StudentReader [--log] [--sync-every N] [--threads N]");
+        System.out.println("  --log           append changes to " + LOG_PATH + " instead of rewriting the file");
+        System.out.println("  --sync-every N  with --log, force the log to disk every N changes (N >= 0; default 1)");
+        System.out.println("  --threads N     parse the student file in N segments concurrently (N >= 1; default 1)");
+    }
+
     /**
      * Prints the main menu options to the console.
      */
@@ -269,6 +491,9 @@ public class StudentReader {
         System.out.println("1. Add a student");
         System.out.println("2. Remove a student by ID");
         System.out.println("3. Search for a student by ID");
-        System.out.println("4. Exit");
+        System.out.println("4. Search by last name prefix");
+        System.out.println("5. Search by first name prefix");
+        System.out.println("6. Search by email");
+        System.out.println("7. Exit");
     }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Secondary indexes over student names and email addresses, kept alongside
+ * the student list so that support staff can search without scanning it.
+ *
+ * <ul>
+ *   <li><b>Last name</b> and <b>first name</b> — each a sorted array of
+ *       lower-cased keys with the matching students in a parallel array. A
+ *       prefix query binary-searches for the first key at or after the
+ *       prefix and walks forward while keys still start with it, so it
+ *       costs {@code O(log n)} plus one step per match.</li>
+ *   <li><b>Email</b> — a hash map from lower-cased address to the students
+ *       with that address, for exact lookups.</li>
+ * </ul>
+ *
+ * <p>All matching ignores case. Results are ordered by the searched key,
+ * then by when the student was added. Adding or removing a student shifts
+ * part of each sorted array, which is a single {@code arraycopy}. A student
+ * is indexed under the names and email it had when added; remove it before
+ * changing them and add it again afterwards.</p>
+ *
+ * @author Ying Lu
+ */
+public class StudentSearchIndex {
+
+    private final SortedKeys lastNames  = new SortedKeys();
+    private final SortedKeys firstNames = new SortedKeys();
+    private final Map<String, List<Student>> emails = new HashMap<>();
+
+    /** Constructs an empty index. */
+    public StudentSearchIndex() { }
+
+    /**
+     * Constructs an index over every student in {@code list}.
+     *
+     * @param list the students to index; must not be null
+     * @throws IllegalArgumentException if {@code list} is null
+     */
+    public StudentSearchIndex(List<Student> list) {
+        if (list == null) throw new IllegalArgumentException("Student list must not be null.");
+        lastNames.bulkLoad(list, true);
+        firstNames.bulkLoad(list, false);
+        for (Student s : list) addEmail(s);
+    }
+
+    // ── Updates ──────────────────────────────────────────────────────────────
+
+    /**
+     * Indexes a student by last name, first name and email.
+     *
+     * @param student the student; must not be null
+     * @throws IllegalArgumentException if {@code student} is null
+     */
+    public void add(Student student) {
+        if (student == null) throw new IllegalArgumentException("Student must not be null.");
+        lastNames.insert(key(student.getLastName()), student);
+        firstNames.insert(key(student.getFirstName()), student);
+        addEmail(student);
+    }
+
+    /**
+     * Removes a student, matched by identity, from every index.
+     *
+     * @param student the student to remove
+     * @return {@code true} if it was indexed
+     */
+    public boolean remove(Student student) {
+        if (student == null) return false;
+        if (!lastNames.delete(key(student.getLastName()), student)) return false;
+        firstNames.delete(key(student.getFirstName()), student);
+        String email = key(student.getEmail());
+        List<Student> withEmail = emails.get(email);
+        if (withEmail != null) {
+            withEmail.removeIf(s -> s == student);
+            if (withEmail.isEmpty()) emails.remove(email);
+        }
+        return true;
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────
+
+    /**
+     * @param prefix the start of the last name, in any case; must not be null
+     * @return every student whose last name starts with {@code prefix}
+     */
+    public List<Student> byLastNamePrefix(String prefix) {
+        return lastNames.withPrefix(key(prefix));
+    }
+
+    /**
+     * @param prefix the start of the first name, in any case; must not be null
+     * @return every student whose first name starts with {@code prefix}
+     */
+    public List<Student> byFirstNamePrefix(String prefix) {
+        return firstNames.withPrefix(key(prefix));
+    }
+
+    /**
+     * @param email the full email address, in any case; must not be null
+     * @return every student with that address; usually at most one
+     */
+    public List<Student> byEmail(String email) {
+        List<Student> found = emails.get(key(email));
+        return found == null ? new ArrayList<>() : new ArrayList<>(found);
+    }
+
+    /** @return the number of indexed students */
+    public int size() { return lastNames.size; }
+
+    // ── Internals ────────────────────────────────────────────────────────────
+
+    private static String key(String value) {
+        if (value == null) throw new IllegalArgumentException("Search text must not be null.");
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private void addEmail(Student student) {
+        emails.computeIfAbsent(key(student.getEmail()), k -> new ArrayList<>(1)).add(student);
+    }
+
+    /** Keys in sorted order, each with its student in a parallel array. */
+    private static class SortedKeys {
+        private String[]  keys     = new String[16];
+        private Student[] students = new Student[16];
+        private int       size;
+
+        /** Replaces the contents with {@code list}, sorted once rather than inserted one by one. */
+        void bulkLoad(List<Student> list, boolean byLastName) {
+            Integer[] order = new Integer[list.size()];
+            String[]  raw   = new String[list.size()];
+            for (int i = 0; i < order.length; i++) {
+                Student s = list.get(i);
+                order[i] = i;
+                raw[i]   = key(byLastName ? s.getLastName() : s.getFirstName());
+            }
+            Arrays.sort(order, (a, b) -> raw[a].compareTo(raw[b]));   // stable: ties keep list order
+            size     = order.length;
+            keys     = new String[Math.max(16, size)];
+            students = new Student[Math.max(16, size)];
+            for (int i = 0; i < size; i++) {
+                keys[i]     = raw[order[i]];
+                students[i] = list.get(order[i]);
+            }
+        }
+
+        void insert(String key, Student student) {
+            int at = upperBound(key);
+            if (size == keys.length) {
+                keys     = Arrays.copyOf(keys, size * 2);
+                students = Arrays.copyOf(students, size * 2);
+            }
+            System.arraycopy(keys, at, keys, at + 1, size - at);
+            System.arraycopy(students, at, students, at + 1, size - at);
+            keys[at]     = key;
+            students[at] = student;
+            size++;
+        }
+
+        boolean delete(String key, Student student) {
+            for (int i = lowerBound(key); i < size && keys[i].equals(key); i++) {
+                if (students[i] == student) {
+                    System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+                    System.arraycopy(students, i + 1, students, i, size - i - 1);
+                    size--;
+                    keys[size]     = null;
+                    students[size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        List<Student> withPrefix(String prefix) {
+            List<Student> result = new ArrayList<>();
+            for (int i = lowerBound(prefix); i < size && keys[i].startsWith(prefix); i++) {
+                result.add(students[i]);
+            }
+            return result;
+        }
+
+        /** @return the first position whose key is not less than {@code key} */
+        private int lowerBound(String key) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(key) < 0) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        /** @return the first position whose key is greater than {@code key} */
+        private int upperBound(String key) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(key) <= 0) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
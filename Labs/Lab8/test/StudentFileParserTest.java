@@ -0,0 +1,172 @@
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link StudentFileParser}.
+ *
+ * <p>Every load is checked against the original loader, reading lines with
+ * {@link BufferedReader#readLine} and splitting them on whitespace, for the
+ * students it returns and the malformed lines it reports.</p>
+ */
+public class StudentFileParserTest {
+
+    private static final String[] LINE_ENDS = {"\n", "\r\n", "\r"};
+
+    private Path file;
+    private Random random;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file   = Files.createTempFile("students", ".txt");
+        random = new Random(31);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /** @return a random line: usually a student, sometimes blank, padded or malformed */
+    private String randomLine() {
+        String first = random.nextInt(50) == 0 ? "Zo\u00eb" : "First" + random.nextInt(100);
+        String last  = random.nextInt(50) == 0 ? "M\u00fcller" : "Last" + random.nextInt(100);
+        String email = "s" + random.nextInt(100_000) + "@example.com";
+        switch (random.nextInt(40)) {
+            case 0:  return "";
+            case 1:  return " \t ";
+            case 2:  return first + " " + last + " " + random.nextInt(100_000);
+            case 3:  return first + " " + last + " x" + random.nextInt(100) + " " + email;
+            case 4:  return first + " " + last + " 9999999999 " + email;
+            case 5:  return first + " " + last + " - " + email;
+            case 6:  return "\t" + first + "   " + last + "\t-" + random.nextInt(1_000) + "  " + email + " extra  ";
+            case 7:  return first + " " + last + " +" + Integer.MAX_VALUE + " " + email + " two more";
+            default: return first + " " + last + " " + random.nextInt(1_000_000) + " " + email;
+        }
+    }
+
+    /** Writes {@code bytes} or more of random lines with mixed line endings and no final break. */
+    private void writeRandomFile(int bytes) throws IOException {
+        StringBuilder sb = new StringBuilder(bytes + 100);
+        while (sb.length() < bytes) sb.append(randomLine()).append(LINE_ENDS[random.nextInt(LINE_ENDS.length)]);
+        sb.append("Last Line 42 last@example.com");
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** The original {@code readLine}/{@code split} loader, printing malformed lines the same way. */
+    private List<Student> referenceLoad() throws IOException {
+        List<Student> students = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) continue;
+                String[] parts = line.split("\\s+");
+                try {
+                    if (parts.length < 4) throw new NumberFormatException();
+                    students.add(new Student(parts[0], parts[1], Integer.parseInt(parts[2]), parts[3]));
+                } catch (NumberFormatException e) {
+                    System.out.println("Skipping malformed line: " + line);
+                }
+            }
+        }
+        return students;
+    }
+
+    /** Runs {@code load} and returns its students' file strings followed by everything it printed. */
+    private static List<String> capture(Callable<List<Student>> load) throws Exception {
+        PrintStream original = System.out;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        List<Student> students;
+        try {
+            System.setOut(new PrintStream(printed, true, StandardCharsets.UTF_8));
+            students = load.call();
+        } finally {
+            System.setOut(original);
+        }
+        List<String> result = new ArrayList<>();
+        for (Student s : students) result.add(s.toFileString());
+        result.add("-- printed --");
+        result.add(printed.toString(StandardCharsets.UTF_8));
+        return result;
+    }
+
+    // ── Sequential ───────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that a sequential load matches the original loader.
+     */
+    @Test
+    void testLoadMatchesReference() throws Exception {
+        writeRandomFile(200_000);
+        assertEquals(capture(this::referenceLoad), capture(() -> StudentFileParser.load(file.toString())));
+    }
+
+    /**
+     * Verifies empty files, files of blank lines, and a missing file.
+     */
+    @Test
+    void testEmptyAndMissingFiles() throws Exception {
+        Files.write(file, new byte[0]);
+        assertTrue(StudentFileParser.load(file.toString()).isEmpty());
+        Files.write(file, "\r\n\n  \r".getBytes(StandardCharsets.UTF_8));
+        assertTrue(StudentFileParser.load(file.toString(), 4).isEmpty());
+        Files.delete(file);
+        assertTrue(StudentFileParser.load(file.toString()).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> StudentFileParser.load("students.txt", 0));
+    }
+
+    // ── Parallel ─────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that loading a file large enough to be split gives the same
+     * students and messages, in the same order, for every thread count.
+     */
+    @Test
+    void testParallelMatchesSequential() throws Exception {
+        writeRandomFile(3 << 20);
+        List<String> expected = capture(this::referenceLoad);
+        assertTrue(expected.get(expected.size() - 1).contains("Skipping malformed line"));
+        assertEquals(expected, capture(() -> StudentFileParser.load(file.toString())));
+        for (int threads : new int[]{2, 3, 4, 7, 16, 64}) {
+            assertEquals(expected, capture(() -> StudentFileParser.load(file.toString(), threads)),
+                    "threads=" + threads);
+        }
+    }
+
+    /**
+     * Verifies a split file made of one very long line and of lines that
+     * all end in {@code \r\n}, so that segment boundaries can fall inside a
+     * line or between its two line-ending bytes.
+     */
+    @Test
+    void testParallelLineBoundaries() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < (2 << 20)) sb.append("A B ").append(sb.length()).append(" x@example.com\r\n");
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+        List<String> expected = capture(this::referenceLoad);
+        for (int threads : new int[]{2, 5, 13}) {
+            assertEquals(expected, capture(() -> StudentFileParser.load(file.toString(), threads)));
+        }
+
+        String padding = " ".repeat(3 << 20);
+        Files.write(file, ("Only" + padding + "One 7 o@example.com\nSecond Line 8 s@example.com")
+                .getBytes(StandardCharsets.UTF_8));
+        expected = capture(this::referenceLoad);
+        for (int threads : new int[]{2, 8}) {
+            assertEquals(expected, capture(() -> StudentFileParser.load(file.toString(), threads)));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link StudentIndex}.
+ *
+ * <p>Random adds and removes are replayed against a {@link HashMap} that
+ * keeps the first student per ID, the brute-force reference for lookups
+ * after backward-shift deletion.</p>
+ */
+public class StudentIndexTest {
+
+    private StudentIndex index;
+    private Map<Integer, Student> expected;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        index    = new StudentIndex();
+        expected = new HashMap<>();
+        random   = new Random(17);
+    }
+
+    private static Student student(int id) {
+        return new Student("First" + id, "Last" + id, id, "s" + id + "@example.com");
+    }
+
+    private void add(Student s) {
+        boolean fresh = !expected.containsKey(s.getStudentID());
+        if (fresh) expected.put(s.getStudentID(), s);
+        assertEquals(fresh, index.add(s));
+    }
+
+    private void assertMatchesReference(int maxID) {
+        assertEquals(expected.size(), index.size());
+        for (int id = -5; id <= maxID; id++) {
+            assertSame(expected.get(id), index.get(id), "id " + id);
+            assertEquals(expected.containsKey(id), index.containsID(id));
+        }
+    }
+
+    /**
+     * Verifies lookups after random adds and removes over clustered IDs,
+     * which exercise long probe runs and their repair on removal.
+     */
+    @Test
+    void testAddAndRemoveMatchHashMap() {
+        for (int i = 0; i < 50_000; i++) {
+            int id = random.nextInt(3) == 0 ? random.nextInt(64) * 1024 : random.nextInt(4_000);
+            if (random.nextInt(5) < 3) {
+                add(student(id));
+            } else {
+                assertSame(expected.remove(id), index.remove(id));
+            }
+            if (i % 5_000 == 0) assertMatchesReference(4_000);
+        }
+        assertMatchesReference(4_000);
+        for (int id : new ArrayList<>(expected.keySet())) assertSame(expected.remove(id), index.remove(id));
+        assertEquals(0, index.size());
+        assertNull(index.remove(1));
+    }
+
+    /**
+     * Verifies that the first student added under an ID wins, both through
+     * {@link StudentIndex#add} and the list constructor, and that a removed
+     * ID can be taken by another student.
+     */
+    @Test
+    void testFirstStudentWins() {
+        List<Student> list = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) list.add(student(random.nextInt(300)));
+        for (Student s : list) add(s);
+        assertMatchesReference(300);
+
+        StudentIndex built = new StudentIndex(list);
+        for (Map.Entry<Integer, Student> e : expected.entrySet()) assertSame(e.getValue(), built.get(e.getKey()));
+        assertEquals(expected.size(), built.size());
+
+        int id = list.get(0).getStudentID();
+        Student other = student(id);
+        assertFalse(index.add(other));
+        assertSame(list.get(0), index.remove(id));
+        assertTrue(index.add(other));
+        assertSame(other, index.get(id));
+    }
+
+    /**
+     * Verifies that null students and lists are rejected.
+     */
+    @Test
+    void testNullsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> index.add(null));
+        assertThrows(IllegalArgumentException.class, () -> new StudentIndex(null));
+    }
+}
@@ -0,0 +1,207 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link StudentLog}.
+ *
+ * <p>Random changes are logged and also applied directly to a list, the
+ * brute-force reference: an add is kept only if its ID is absent, and a
+ * remove drops the first student with the ID. Replaying the log onto the
+ * original list must reproduce the reference exactly.</p>
+ */
+public class StudentLogTest {
+
+    private Path dir;
+    private String logPath;
+    private Random random;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir     = Files.createTempDirectory("studentlog");
+        logPath = dir.resolve("students.log").toString();
+        random  = new Random(23);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) Files.delete(p);
+        }
+    }
+
+    private Student randomStudent(int maxID) {
+        int id = random.nextInt(maxID);
+        return new Student("First" + random.nextInt(1_000), "Last" + id, id, "s" + id + "@example.com");
+    }
+
+    private static List<String> lines(List<Student> students) {
+        List<String> lines = new ArrayList<>();
+        for (Student s : students) lines.add(s.toFileString());
+        return lines;
+    }
+
+    private static int indexOfID(List<Student> students, int id) {
+        for (int i = 0; i < students.size(); i++) if (students.get(i).getStudentID() == id) return i;
+        return -1;
+    }
+
+    /**
+     * Logs {@code changes} random changes against {@code current}, applying
+     * each one to it as the reference.
+     */
+    private void logRandomChanges(StudentLog log, List<Student> current, int changes, int maxID)
+            throws IOException {
+        for (int i = 0; i < changes; i++) {
+            if (random.nextBoolean()) {
+                Student s = randomStudent(maxID);
+                log.appendAdd(s);
+                if (indexOfID(current, s.getStudentID()) < 0) current.add(s);
+            } else {
+                int id = random.nextInt(maxID);
+                log.appendRemove(id);
+                int position = indexOfID(current, id);
+                if (position >= 0) current.remove(position);
+            }
+        }
+    }
+
+    private ArrayList<Student> randomSnapshot(int n, int maxID) {
+        ArrayList<Student> snapshot = new ArrayList<>();
+        for (int i = 0; i < n; i++) snapshot.add(randomStudent(maxID));
+        return snapshot;
+    }
+
+    // ── Replay ───────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that replay reproduces the reference list, including
+     * snapshots that repeat an ID.
+     */
+    @Test
+    void testReplayMatchesReference() throws IOException {
+        ArrayList<Student> snapshot = randomSnapshot(300, 500);
+        List<Student> expected = new ArrayList<>(snapshot);
+        try (StudentLog log = new StudentLog(logPath, 0)) {
+            logRandomChanges(log, expected, 3_000, 500);
+        }
+        ArrayList<Student> replayed = new ArrayList<>(snapshot);
+        StudentLog.replay(logPath, replayed);
+        assertEquals(lines(expected), lines(replayed));
+    }
+
+    /**
+     * Verifies that replaying a log again onto its own result, as after a
+     * crash between compaction and emptying the log, leaves the same
+     * students, for a snapshot without repeated IDs.
+     */
+    @Test
+    void testReplayIsIdempotent() throws IOException {
+        ArrayList<Student> snapshot = new ArrayList<>();
+        for (int id = 0; id < 500; id += 2) snapshot.add(new Student("A", "B", id, "x@example.com"));
+        ArrayList<Student> once = new ArrayList<>(snapshot);
+        try (StudentLog log = new StudentLog(logPath, 7)) {
+            logRandomChanges(log, new ArrayList<>(snapshot), 2_000, 500);
+        }
+        StudentLog.replay(logPath, once);
+        ArrayList<Student> twice = new ArrayList<>(once);
+        StudentLog.replay(logPath, twice);
+
+        List<String> a = lines(once), b = lines(twice);
+        Collections.sort(a);
+        Collections.sort(b);
+        assertEquals(a, b);
+    }
+
+    /**
+     * Verifies that a missing log is empty and that malformed records are
+     * skipped.
+     */
+    @Test
+    void testMissingAndMalformedRecords() throws IOException {
+        ArrayList<Student> students = randomSnapshot(10, 1_000);
+        assertEquals(0, StudentLog.replay(dir.resolve("absent.log").toString(), students));
+        assertEquals(10, students.size());
+
+        Files.write(Path.of(logPath), ("+ A B notanumber x@y.com\n- \n\n+ A B\n- 99999\n"
+                + "+ New Student 99999 n@example.com\n").getBytes(StandardCharsets.UTF_8));
+        assertEquals(1, StudentLog.replay(logPath, students));
+        assertEquals("New Student 99999 n@example.com", students.get(10).toFileString());
+    }
+
+    // ── Torn tail ────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that a record torn by a crash is ignored by replay, cut off
+     * when the log is reopened, and does not swallow the next record.
+     */
+    @Test
+    void testTornTailIsDiscarded() throws IOException {
+        ArrayList<Student> snapshot = randomSnapshot(50, 200);
+        List<Student> expected = new ArrayList<>(snapshot);
+        try (StudentLog log = new StudentLog(logPath, 0)) {
+            logRandomChanges(log, expected, 5_000, 200);
+        }
+        long intact = Files.size(Path.of(logPath));
+        Files.write(Path.of(logPath), "+ Torn Rec".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        ArrayList<Student> replayed = new ArrayList<>(snapshot);
+        StudentLog.replay(logPath, replayed);
+        assertEquals(lines(expected), lines(replayed));
+
+        try (StudentLog log = new StudentLog(logPath, 1)) {
+            assertEquals(intact, log.size());
+            logRandomChanges(log, expected, 10, 200);
+        }
+        replayed = new ArrayList<>(snapshot);
+        StudentLog.replay(logPath, replayed);
+        assertEquals(lines(expected), lines(replayed));
+    }
+
+    /**
+     * Verifies that a log holding only a torn record is emptied, and that a
+     * complete log is left as it is.
+     */
+    @Test
+    void testReopenKeepsCompleteLog() throws IOException {
+        Files.write(Path.of(logPath), "+ Only Torn 1".getBytes(StandardCharsets.UTF_8));
+        try (StudentLog log = new StudentLog(logPath, 0)) {
+            assertEquals(0, log.size());
+            log.appendRemove(3);
+        }
+        try (StudentLog log = new StudentLog(logPath, 0)) {
+            assertEquals("- 3\n".length(), log.size());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new StudentLog(logPath, -1));
+    }
+
+    // ── Compaction ───────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that compaction writes the current list as the snapshot and
+     * empties the log.
+     */
+    @Test
+    void testCompactWritesSnapshot() throws IOException {
+        String snapshotPath = dir.resolve("students.txt").toString();
+        ArrayList<Student> students = randomSnapshot(100, 1_000);
+        try (StudentLog log = new StudentLog(logPath, 0)) {
+            logRandomChanges(log, students, 100, 1_000);
+            log.compact(students, snapshotPath);
+            assertEquals(0, log.size());
+        }
+        assertEquals(lines(students), Files.readAllLines(Path.of(snapshotPath), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,157 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link StudentSearchIndex}.
+ *
+ * <p>Every query is checked against scanning a plain list of the indexed
+ * students in the order they were added: matches are filtered ignoring case
+ * and, for prefix queries, stably sorted by the lower-cased key, so that
+ * equal keys keep insertion order. Students are compared by identity.</p>
+ */
+public class StudentSearchIndexTest {
+
+    private static final String[] LAST  = {"Smith", "smith", "SMITHERS", "Smyth", "Lu", "LU", "Luna", "Ng", "O'Neil"};
+    private static final String[] FIRST = {"Ann", "ANNA", "annabel", "Bo", "bob", "Zed"};
+
+    private List<Student> expected;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        expected = new ArrayList<>();
+        random   = new Random(41);
+    }
+
+    private Student randomStudent(int id) {
+        String email = (random.nextInt(4) == 0 ? "Shared" : "s" + id) + "@Example.com";
+        return new Student(FIRST[random.nextInt(FIRST.length)], LAST[random.nextInt(LAST.length)], id, email);
+    }
+
+    private static String lower(String s) { return s.toLowerCase(Locale.ROOT); }
+
+    private List<Student> scanPrefix(Function<Student, String> name, String prefix) {
+        List<Student> found = new ArrayList<>();
+        for (Student s : expected) if (lower(name.apply(s)).startsWith(lower(prefix))) found.add(s);
+        found.sort(Comparator.comparing(s -> lower(name.apply(s))));   // stable: ties keep insertion order
+        return found;
+    }
+
+    private List<Student> scanEmail(String email) {
+        List<Student> found = new ArrayList<>();
+        for (Student s : expected) if (lower(s.getEmail()).equals(lower(email))) found.add(s);
+        return found;
+    }
+
+    private static void assertSameStudents(List<Student> expected, List<Student> actual, String query) {
+        assertEquals(expected.size(), actual.size(), query);
+        for (int i = 0; i < expected.size(); i++) assertSame(expected.get(i), actual.get(i), query + " #" + i);
+    }
+
+    private void assertMatchesScan(StudentSearchIndex index) {
+        assertEquals(expected.size(), index.size());
+        for (String prefix : new String[]{"", "s", "SM", "smith", "SMITHe", "Smithers!", "l", "lu", "LUN", "o'", "x"}) {
+            assertSameStudents(scanPrefix(Student::getLastName, prefix), index.byLastNamePrefix(prefix), "last " + prefix);
+        }
+        for (String prefix : new String[]{"", "a", "ANN", "annA", "b", "BOB", "z", "q"}) {
+            assertSameStudents(scanPrefix(Student::getFirstName, prefix), index.byFirstNamePrefix(prefix), "first " + prefix);
+        }
+        for (String email : new String[]{"shared@example.com", "SHARED@EXAMPLE.COM", "s3@example.com", "S7@Example.COM", "nobody@example.com"}) {
+            assertSameStudents(scanEmail(email), index.byEmail(email), "email " + email);
+        }
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies prefix and email queries against a list scan through random
+     * adds and removes, including removing and re-adding a student, which
+     * moves it behind every equal key.
+     */
+    @Test
+    void testRandomUpdatesMatchScan() {
+        StudentSearchIndex index = new StudentSearchIndex();
+        assertMatchesScan(index);
+        for (int i = 0; i < 3_000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) != 0) {
+                Student s = randomStudent(i);
+                index.add(s);
+                expected.add(s);
+            } else if (random.nextBoolean()) {
+                assertTrue(index.remove(expected.remove(random.nextInt(expected.size()))));
+            } else {
+                Student s = expected.remove(random.nextInt(expected.size()));
+                assertTrue(index.remove(s));
+                index.add(s);
+                expected.add(s);
+            }
+            if (i % 150 == 0) assertMatchesScan(index);
+        }
+        assertMatchesScan(index);
+    }
+
+    /**
+     * Verifies that the list constructor, which sorts once, indexes exactly
+     * like adding the students one by one, and keeps up with later updates.
+     */
+    @Test
+    void testBulkLoadMatchesScan() {
+        for (int i = 0; i < 2_000; i++) expected.add(randomStudent(i));
+        StudentSearchIndex bulk = new StudentSearchIndex(new ArrayList<>(expected));
+        StudentSearchIndex added = new StudentSearchIndex();
+        for (Student s : expected) added.add(s);
+        assertMatchesScan(bulk);
+        assertMatchesScan(added);
+
+        for (int i = 0; i < 500; i++) {
+            assertTrue(bulk.remove(expected.remove(random.nextInt(expected.size()))));
+            Student s = randomStudent(10_000 + i);
+            bulk.add(s);
+            expected.add(s);
+        }
+        assertMatchesScan(bulk);
+        assertTrue(new StudentSearchIndex(new ArrayList<>()).byLastNamePrefix("").isEmpty());
+    }
+
+    // ── Removal ──────────────────────────────────────────────────────────────
+
+    /**
+     * Verifies that removal goes by identity, so an equal student with the
+     * same names and email stays indexed.
+     */
+    @Test
+    void testRemoveByIdentity() {
+        StudentSearchIndex index = new StudentSearchIndex();
+        Student a    = new Student("Ann", "Smith", 1, "ann@example.com");
+        Student twin = new Student("Ann", "Smith", 1, "ann@example.com");
+        index.add(a);
+        index.add(twin);
+        assertTrue(index.remove(a));
+        assertFalse(index.remove(a));
+        assertFalse(index.remove(null));
+        assertSameStudents(List.of(twin), index.byLastNamePrefix("SMI"), "last");
+        assertSameStudents(List.of(twin), index.byFirstNamePrefix("ann"), "first");
+        assertSameStudents(List.of(twin), index.byEmail("ANN@example.com"), "email");
+        assertEquals(1, index.size());
+    }
+
+    /**
+     * Verifies that null students, lists and search text are rejected.
+     */
+    @Test
+    void testNullsThrow() {
+        StudentSearchIndex index = new StudentSearchIndex();
+        assertThrows(IllegalArgumentException.class, () -> index.add(null));
+        assertThrows(IllegalArgumentException.class, () -> new StudentSearchIndex(null));
+        assertThrows(IllegalArgumentException.class, () -> index.byLastNamePrefix(null));
+        assertThrows(IllegalArgumentException.class, () -> index.byFirstNamePrefix(null));
+        assertThrows(IllegalArgumentException.class, () -> index.byEmail(null));
+    }
+}